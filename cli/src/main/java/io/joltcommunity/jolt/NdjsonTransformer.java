@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Streams newline delimited JSON records through a Chainr, writing one compact JSON result per line.
+ * <p>
+ * Records are pulled off the input one at a time by a Jackson parser, so memory use does not depend on the
+ * size of the input.  With more than one worker, records are transformed concurrently but written in input
+ * order; at most a few records per worker are in flight at any time.
+ * <p>
+ * A record that fails to transform is reported on the error stream and skipped, the rest of the input
+ * is still processed.  Malformed JSON stops the run, as the parser can not reliably resync after it.
+ */
+public class NdjsonTransformer {
+
+    // how many records each worker may have queued up ahead of the writer
+    private static final int IN_FLIGHT_PER_WORKER = 4;
+
+    private final Chainr chainr;
+    private final int workers;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonTransformer(Chainr chainr, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("NdjsonTransformer requires at least one worker, was " + workers);
+        }
+        this.chainr = chainr;
+        this.workers = workers;
+        this.objectMapper = new ObjectMapper();
+        JsonUtilImpl.configureStockJoltObjectMapper(objectMapper);
+    }
+
+    /**
+     * @param in     the NDJSON records to transform
+     * @param out    where to write the transformed records, one per line.  It is flushed but not closed.
+     * @param errors where to report records that failed to transform
+     * @return true if every record was transformed successfully
+     */
+    public boolean transform(InputStream in, Writer out, PrintStream errors) throws IOException {
+        try (MappingIterator<Object> records = objectMapper.readerFor(Object.class).readValues(in)) {
+            boolean success = workers == 1 ? transformInline(records, out, errors) : transformConcurrently(records, out, errors);
+            out.flush();
+            return success;
+        }
+    }
+
+    private boolean transformInline(MappingIterator<Object> records, Writer out, PrintStream errors) throws IOException {
+        boolean success = true;
+        long recordNumber = 0;
+        while (records.hasNextValue()) {
+            Object record = records.nextValue();
+            recordNumber++;
+            String line;
+            try {
+                line = transformRecord(record);
+            } catch (Exception e) {
+                reportFailure(recordNumber, e, errors);
+                success = false;
+                continue;
+            }
+            writeLine(line, out);
+        }
+        return success;
+    }
+
+    private boolean transformConcurrently(MappingIterator<Object> records, Writer out, PrintStream errors) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            Deque<Future<String>> inFlight = new ArrayDeque<>();
+            int maxInFlight = workers * IN_FLIGHT_PER_WORKER;
+            boolean success = true;
+            long written = 0;
+
+            while (records.hasNextValue()) {
+                Object record = records.nextValue();
+                inFlight.addLast(executor.submit(() -> transformRecord(record)));
+
+                if (inFlight.size() == maxInFlight) {
+                    success &= writeNext(inFlight.removeFirst(), ++written, out, errors);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                success &= writeNext(inFlight.removeFirst(), ++written, out, errors);
+            }
+            return success;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean writeNext(Future<String> next, long recordNumber, Writer out, PrintStream errors) throws IOException {
+        String line;
+        try {
+            line = next.get();
+        } catch (ExecutionException e) {
+            reportFailure(recordNumber, e.getCause(), errors);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for record " + recordNumber, e);
+        }
+        writeLine(line, out);
+        return true;
+    }
+
+    private String transformRecord(Object record) throws IOException {
+        return objectMapper.writeValueAsString(chainr.transform(record));
+    }
+
+    private static void writeLine(String line, Writer out) throws IOException {
+        out.write(line);
+        out.write('\n');
+    }
+
+    private static void reportFailure(long recordNumber, Throwable cause, PrintStream errors) {
+        errors.println("Chainr failed to transform record " + recordNumber + ": " + cause);
+    }
+}
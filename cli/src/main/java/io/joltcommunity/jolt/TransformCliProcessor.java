@@ -21,7 +21,14 @@ import net.sourceforge.argparse4j.inf.Namespace;
 import net.sourceforge.argparse4j.inf.Subparser;
 import net.sourceforge.argparse4j.inf.Subparsers;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * The JoltCliProcessor for Chainr. See https://github.com/jolt-community/jolt-community/blob/main/jolt-core/src/main/java/io/joltcommunity/jolt/Chainr.java
@@ -56,6 +63,15 @@ public class TransformCliProcessor implements JoltCliProcessor {
 
         transformParser.addArgument("-u").help("Turns off pretty print for the output. Output will be raw json with no formatting.")
                 .action(Arguments.storeTrue());
+
+        transformParser.addArgument("--ndjson").help("Treat the input as newline delimited JSON : each record is streamed " +
+                        "through the spec and written as one line of compact JSON, so inputs of any size can be processed. " +
+                        "Records that fail to transform are reported on standard error and skipped.")
+                .action(Arguments.storeTrue());
+
+        transformParser.addArgument("-w", "--workers").help("Number of threads to transform --ndjson records with. " +
+                        "Output is always written in input order.")
+                .type(Integer.class).setDefault(1);
     }
 
     /**
@@ -77,6 +93,10 @@ public class TransformCliProcessor implements JoltCliProcessor {
         }
 
         File file = ns.get("input");
+        if (ns.getBoolean("ndjson")) {
+            return processNdjson(chainr, file, ns.getInt("workers"));
+        }
+
         Object input = JoltCliUtilities.readJsonInput(file, SUPPRESS_OUTPUT);
 
         Object output;
@@ -91,4 +111,32 @@ public class TransformCliProcessor implements JoltCliProcessor {
         return JoltCliUtilities.printJsonObject(output, uglyPrint, SUPPRESS_OUTPUT);
     }
 
+    private boolean processNdjson(Chainr chainr, File file, int workers) {
+        if (workers < 1) {
+            JoltCliUtilities.printToStandardOut("The number of workers must be at least 1.", SUPPRESS_OUTPUT);
+            return false;
+        }
+
+        NdjsonTransformer transformer = new NdjsonTransformer(chainr, workers);
+
+        // standard out carries the records, so problems are reported on standard error
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try {
+            if (file == null) {
+                return transformer.transform(System.in, out, System.err);
+            }
+            try (InputStream in = new FileInputStream(file)) {
+                return transformer.transform(in, out, System.err);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to process the NDJSON input: " + e.getMessage());
+            return false;
+        } finally {
+            try {
+                out.flush();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
 }
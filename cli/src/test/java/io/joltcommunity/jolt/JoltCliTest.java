@@ -19,7 +19,14 @@ package io.joltcommunity.jolt;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class JoltCliTest {
 
@@ -52,5 +59,60 @@ public class JoltCliTest {
 
         // transform: well formed input should return true
         Assert.assertTrue(JoltCli.runJolt(new String[]{"transform", path + "spec.json", path + "transformInput.json"}));
+
+        // transform: well formed NDJSON input should return true, inline and with workers
+        Path ndjson = Files.createTempFile("transformInput", ".ndjson");
+        try {
+            Files.writeString(ndjson, """
+                    { "facets": { "statistics": { "_type": "statistical", "count": 40 } } }
+                    { "facets": { "statistics": { "_type": "statistical", "count": 41 } } }
+                    { "facets": { "statistics": { "_type": "statistical", "count": 42, "id": "def456" } } }
+                    """);
+            Assert.assertTrue(JoltCli.runJolt(new String[]{"transform", path + "spec.json", ndjson.toString(), "--ndjson"}));
+            Assert.assertTrue(JoltCli.runJolt(new String[]{"transform", path + "spec.json", ndjson.toString(), "--ndjson", "-w", "4"}));
+        } finally {
+            Files.delete(ndjson);
+        }
+    }
+
+    @Test
+    public void testNdjsonKeepsInputOrder() throws IOException {
+        Chainr chainr = Chainr.fromSpec(JsonUtils.jsonToList("[ { \"operation\" : \"shift\", \"spec\" : { \"id\" : \"record.id\" } } ]"));
+
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            input.append("{ \"id\" : ").append(i).append(" }\n");
+        }
+
+        for (int workers : new int[]{1, 4}) {
+            StringWriter out = new StringWriter();
+            boolean success = new NdjsonTransformer(chainr, workers).transform(
+                    new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), out, System.err);
+
+            Assert.assertTrue(success);
+            String[] lines = out.toString().split("\n");
+            Assert.assertEquals(lines.length, 1000);
+            for (int i = 0; i < lines.length; i++) {
+                Assert.assertEquals(lines[i], "{\"record\":{\"id\":" + i + "}}");
+            }
+        }
+    }
+
+    @Test
+    public void testNdjsonSkipsFailedRecords() throws IOException {
+        // a map spec Defaultr can not handle a top level list
+        Chainr chainr = Chainr.fromSpec(JsonUtils.jsonToList("[ { \"operation\" : \"default\", \"spec\" : { \"a\" : \"b\" } } ]"));
+        String input = "{ \"x\" : 1 }\n[ 1, 2 ]\n{ \"x\" : 3 }\n";
+
+        for (int workers : new int[]{1, 2}) {
+            StringWriter out = new StringWriter();
+            ByteArrayOutputStream errors = new ByteArrayOutputStream();
+            boolean success = new NdjsonTransformer(chainr, workers).transform(
+                    new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out, new PrintStream(errors, true, StandardCharsets.UTF_8));
+
+            Assert.assertFalse(success);
+            Assert.assertEquals(out.toString(), "{\"x\":1,\"a\":\"b\"}\n{\"x\":3,\"a\":\"b\"}\n");
+            Assert.assertTrue(errors.toString(StandardCharsets.UTF_8).contains("record 2"));
+        }
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Input documents and spec helpers shared by the benchmarks.
+ * <p/>
+ * Every benchmark runs against one of the {@link Shape}s : a fixture from the jolt-core unit tests, or
+ * one of the synthetic documents built here, which are sized to stress a single dimension of the data.
+ */
+public final class BenchmarkData {
+
+    /**
+     * Number of keys in the top level map of the {@link Shape#WIDE} document.
+     */
+    public static final int WIDE_KEYS = 10_000;
+
+    /**
+     * Nesting depth of the {@link Shape#DEEP} document.
+     */
+    public static final int DEEP_LEVELS = 500;
+
+    /**
+     * Number of elements in the array of the {@link Shape#ARRAY} document.
+     */
+    public static final int ARRAY_SIZE = 100_000;
+
+    public enum Shape {
+        /**
+         * A unit test fixture, small and realistic.
+         */
+        FIXTURE,
+        /**
+         * One map with {@link #WIDE_KEYS} record children.
+         */
+        WIDE,
+        /**
+         * A chain of {@link #DEEP_LEVELS} nested maps, each with a "value" and a "child".
+         */
+        DEEP,
+        /**
+         * A map with an "items" array of {@link #ARRAY_SIZE} records.
+         */
+        ARRAY
+    }
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Loads a unit test fixture, eg "/json/shiftr/firstSample.json".
+     */
+    public static Map<String, Object> fixture(String classPath) {
+        return JsonUtils.classpathToMap(classPath);
+    }
+
+    /**
+     * Builds the synthetic document for the given shape.
+     */
+    public static Object document(Shape shape) {
+        switch (shape) {
+            case WIDE:
+                Map<String, Object> wide = new LinkedHashMap<>();
+                for (int i = 0; i < WIDE_KEYS; i++) {
+                    wide.put("key" + i, record(i));
+                }
+                return wide;
+            case DEEP:
+                Map<String, Object> deep = new LinkedHashMap<>();
+                deep.put("value", DEEP_LEVELS);
+                for (int i = DEEP_LEVELS - 1; i > 0; i--) {
+                    Map<String, Object> parent = new LinkedHashMap<>();
+                    parent.put("value", i);
+                    parent.put("child", deep);
+                    deep = parent;
+                }
+                return deep;
+            case ARRAY:
+                List<Object> items = new ArrayList<>(ARRAY_SIZE);
+                for (int i = 0; i < ARRAY_SIZE; i++) {
+                    items.add(record(i));
+                }
+                Map<String, Object> array = new LinkedHashMap<>();
+                array.put("items", items);
+                return array;
+            default:
+                throw new IllegalArgumentException("No synthetic document for shape " + shape);
+        }
+    }
+
+    /**
+     * One record of the WIDE and ARRAY documents.
+     */
+    public static Map<String, Object> record(int i) {
+        Map<String, Object> rating = new LinkedHashMap<>();
+        rating.put("value", i % 5);
+        rating.put("max", 5);
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", i);
+        record.put("name", "name-" + i);
+        record.put("price", i * 1.5d);
+        record.put("active", i % 2 == 0);
+        record.put("tags", new ArrayList<>(Arrays.asList("red", "green", "blue")));
+        record.put("rating", rating);
+        return record;
+    }
+
+    /**
+     * Wraps a per record spec so that it applies to every record of the WIDE or ARRAY document.
+     *
+     * @param arrayKey the key of the records array, which Defaultr needs written as "items[]"
+     */
+    public static Map<String, Object> forEachRecord(Shape shape, Map<String, Object> recordSpec, String arrayKey) {
+        Map<String, Object> star = new LinkedHashMap<>();
+        star.put("*", recordSpec);
+        if (shape == Shape.WIDE) {
+            return star;
+        }
+        if (shape == Shape.ARRAY) {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put(arrayKey, star);
+            return spec;
+        }
+        throw new IllegalArgumentException("Shape " + shape + " does not hold records");
+    }
+
+    public static Map<String, Object> forEachRecord(Shape shape, Map<String, Object> recordSpec) {
+        return forEachRecord(shape, recordSpec, "items");
+    }
+
+    /**
+     * Builds a spec that mirrors the DEEP document : every level gets the spec entries of levelSpec,
+     * which is handed the depth of the level, plus a "child" entry describing the next level.
+     */
+    public static Map<String, Object> forEachLevel(Function<Integer, Map<String, Object>> levelSpec) {
+        Map<String, Object> spec = levelSpec.apply(DEEP_LEVELS);
+        for (int i = DEEP_LEVELS - 1; i > 0; i--) {
+            Map<String, Object> parent = levelSpec.apply(i);
+            parent.put("child", spec);
+            spec = parent;
+        }
+        return spec;
+    }
+
+    /**
+     * Parses a small inline JSON spec.
+     */
+    public static Map<String, Object> json(String json) {
+        return JsonUtils.jsonToMap(json);
+    }
+
+    /**
+     * Structural copy of a Map / List / scalar document, used to hand mutating transforms a fresh input
+     * on every invocation.  Each benchmark of a mutating transform also measures this on its own, so
+     * that its cost can be subtracted.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object copy(Object obj) {
+        if (obj instanceof Map) {
+            Map<String, Object> map = (Map<String, Object>) obj;
+            Map<String, Object> copy = new LinkedHashMap<>((int) (map.size() / 0.75f) + 1);
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue()));
+            }
+            return copy;
+        }
+        if (obj instanceof List) {
+            List<Object> list = (List<Object>) obj;
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(copy(element));
+            }
+            return copy;
+        }
+        return obj;
+    }
+}
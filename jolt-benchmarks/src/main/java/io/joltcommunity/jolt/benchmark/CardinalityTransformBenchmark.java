@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.CardinalityTransform;
+import io.joltcommunity.jolt.benchmark.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CardinalityTransform modifies its input, so every invocation transforms a fresh copy.  The cost of
+ * that copy is measured on its own by {@link #copyOnly()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CardinalityTransformBenchmark {
+
+    @Param
+    public Shape shape;
+
+    private CardinalityTransform cardinality;
+    private Object input;
+
+    static Map<String, Object> spec(Shape shape) {
+        if (shape == Shape.DEEP) {
+            return BenchmarkData.forEachLevel(level -> {
+                Map<String, Object> spec = new LinkedHashMap<>();
+                spec.put("value", "MANY");
+                return spec;
+            });
+        }
+        return BenchmarkData.forEachRecord(shape, BenchmarkData.json(
+                "{ \"tags\": \"ONE\", \"name\": \"MANY\", \"rating\": { \"*\": \"MANY\" } }"));
+    }
+
+    @Setup
+    public void setup() {
+        if (shape == Shape.FIXTURE) {
+            Map<String, Object> fixture = BenchmarkData.fixture("/json/cardinality/starTestData.json");
+            cardinality = new CardinalityTransform(fixture.get("spec"));
+            input = fixture.get("input");
+        } else {
+            cardinality = new CardinalityTransform(spec(shape));
+            input = BenchmarkData.document(shape);
+        }
+    }
+
+    @Benchmark
+    public Object transform() {
+        return cardinality.transform(BenchmarkData.copy(input));
+    }
+
+    @Benchmark
+    public Object copyOnly() {
+        return BenchmarkData.copy(input);
+    }
+}
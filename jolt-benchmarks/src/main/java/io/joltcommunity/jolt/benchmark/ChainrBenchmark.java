@@ -0,0 +1,90 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.Chainr;
+import io.joltcommunity.jolt.benchmark.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end Chainr runs.  The synthetic chains run every stock transform, reusing the specs of the
+ * single transform benchmarks, and start with a Defaultr, so every invocation transforms a fresh copy.
+ * The cost of that copy is measured on its own by {@link #copyOnly()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ChainrBenchmark {
+
+    @Param
+    public Shape shape;
+
+    private Chainr chainr;
+    private Object input;
+
+    private static Map<String, Object> entry(String operation, Object spec) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("operation", operation);
+        if (spec != null) {
+            entry.put("spec", spec);
+        }
+        return entry;
+    }
+
+    static List<Object> spec(Shape shape) {
+        List<Object> chain = new ArrayList<>();
+        chain.add(entry("default", DefaultrBenchmark.spec(shape)));
+        chain.add(entry("remove", RemovrBenchmark.spec(shape)));
+        chain.add(entry("modify-overwrite-beta", ModifierBenchmark.spec(shape)));
+        chain.add(entry("cardinality", CardinalityTransformBenchmark.spec(shape)));
+        chain.add(entry("shift", ShiftrBenchmark.spec(shape)));
+        chain.add(entry("sort", null));
+        return chain;
+    }
+
+    @Setup
+    public void setup() {
+        if (shape == Shape.FIXTURE) {
+            Map<String, Object> fixture = BenchmarkData.fixture("/json/chainr/integration/firstSample.json");
+            chainr = Chainr.fromSpec(fixture.get("spec"));
+            input = fixture.get("input");
+        } else {
+            chainr = Chainr.fromSpec(spec(shape));
+            input = BenchmarkData.document(shape);
+        }
+    }
+
+    @Benchmark
+    public Object transform() {
+        return chainr.transform(BenchmarkData.copy(input), Collections.emptyMap());
+    }
+
+    @Benchmark
+    public Object copyOnly() {
+        return BenchmarkData.copy(input);
+    }
+}
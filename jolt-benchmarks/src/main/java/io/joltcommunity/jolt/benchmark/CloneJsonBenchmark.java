@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.JsonUtilImpl;
+import io.joltcommunity.jolt.benchmark.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JsonUtilImpl.cloneJson against the write-to-a-String-and-parse-it-back copy it used to do,
+ * which Diffy pays for twice per comparison.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class CloneJsonBenchmark {
+
+    @Param
+    public Shape shape;
+
+    private final JsonUtilImpl jsonUtil = new JsonUtilImpl();
+    private Object input;
+
+    @Setup
+    public void setup() {
+        if (shape == Shape.FIXTURE) {
+            input = BenchmarkData.fixture("/json/chainr/integration/andrewkcarter2.json");
+        } else {
+            input = BenchmarkData.document(shape);
+        }
+    }
+
+    @Benchmark
+    public Object cloneJson() {
+        return jsonUtil.cloneJson(input);
+    }
+
+    @Benchmark
+    public Object stringRoundTrip() {
+        return jsonUtil.jsonToObject(jsonUtil.toJsonString(input));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.Modifier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per record timestamp normalization with the Modifier date functions.
+ * <p>
+ * With LITERAL arguments the patterns and zones are spec literals, resolved once when the Modifier is built;
+ * with REFERENCED arguments every record carries its own pattern and zone, which are looked up in the shared
+ * formatter cache.  formatPerRecord and formatCached isolate the formatting itself : building a
+ * DateTimeFormatter and resolving a ZoneId for every record, as the date functions used to, against reusing one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class DatesBenchmark {
+
+    private static final int RECORDS = 1000;
+    private static final String DAY_PATTERN = "yyyy-MM-dd HH:mm";
+    private static final String ZONE = "Europe/Paris";
+
+    @Param({"LITERAL", "REFERENCED"})
+    public String args;
+
+    private Modifier modifier;
+    private Object input;
+    private long[] timestamps;
+    private DateTimeFormatter cachedFormatter;
+
+    @Setup
+    public void setup() {
+        String spec;
+        if ("LITERAL".equals(args)) {
+            spec = "{ \"items\": { \"*\": {" +
+                    " \"day\": \"=fromEpochMilli(@(1,ts), " + DAY_PATTERN + ", " + ZONE + ")\"," +
+                    " \"compact\": \"=formatDate(@(1,created), yyyy-MM-dd HH:mm:ss, yyyyMMddHHmmss, UTC, " + ZONE + ")\" } } }";
+        } else {
+            spec = "{ \"items\": { \"*\": {" +
+                    " \"day\": \"=fromEpochMilli(@(1,ts), @(1,dayPattern), @(1,zone))\"," +
+                    " \"compact\": \"=formatDate(@(1,created), @(1,createdPattern), yyyyMMddHHmmss, UTC, @(1,zone))\" } } }";
+        }
+        modifier = new Modifier.Overwritr(BenchmarkData.json(spec));
+
+        timestamps = new long[RECORDS];
+        List<Object> items = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            timestamps[i] = 1_700_000_000_000L + i * 3_600_000L;
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("ts", timestamps[i]);
+            record.put("created", "2024-03-" + (10 + i % 20) + " 12:30:45");
+            record.put("dayPattern", DAY_PATTERN);
+            record.put("createdPattern", "yyyy-MM-dd HH:mm:ss");
+            record.put("zone", ZONE);
+            items.add(record);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("items", items);
+        input = document;
+
+        cachedFormatter = DateTimeFormatter.ofPattern(DAY_PATTERN).withZone(ZoneId.of(ZONE));
+    }
+
+    @Benchmark
+    public Object transform() {
+        return modifier.transform(BenchmarkData.copy(input), Collections.emptyMap());
+    }
+
+    @Benchmark
+    public Object copyOnly() {
+        return BenchmarkData.copy(input);
+    }
+
+    @Benchmark
+    public void formatPerRecord(Blackhole blackhole) {
+        for (long timestamp : timestamps) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DAY_PATTERN).withZone(ZoneId.of(ZONE));
+            blackhole.consume(formatter.format(Instant.ofEpochMilli(timestamp)));
+        }
+    }
+
+    @Benchmark
+    public void formatCached(Blackhole blackhole) {
+        for (long timestamp : timestamps) {
+            blackhole.consume(cachedFormatter.format(Instant.ofEpochMilli(timestamp)));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.Shiftr;
+import io.joltcommunity.jolt.common.spec.LiteralTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Literal key dispatch across spec-width / input-width ratios.
+ * <p>
+ * The spec has specWidth literal keys and the input has inputWidth keys, up to half of which the spec knows about.
+ * shift runs the whole Shiftr, the two probe benchmarks isolate the dispatch itself : walking the spec and
+ * probing the input (with the containsKey + get + get the strategy used to do), against walking the input
+ * and probing the precomputed LiteralTable.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class LiteralDispatchBenchmark {
+
+    @Param({"4", "64", "512"})
+    public int specWidth;
+
+    @Param({"4", "64", "512"})
+    public int inputWidth;
+
+    private Shiftr shiftr;
+    private Map<String, Object> literalMap;
+    private LiteralTable<Object> literalTable;
+    private Map<String, Object> input;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        for (int i = 0; i < specWidth; i++) {
+            spec.put("key" + i, "out.key" + i);
+        }
+        shiftr = new Shiftr(spec);
+
+        literalMap = new LinkedHashMap<>(spec);
+        literalTable = new LiteralTable<>(literalMap);
+
+        // up to half of the input keys are spread across the spec, the rest are noise
+        int hits = Math.min(inputWidth / 2, specWidth);
+        input = new LinkedHashMap<>();
+        for (int i = 0; i < hits; i++) {
+            input.put("key" + (i * specWidth / hits), i);
+        }
+        for (int i = hits; i < inputWidth; i++) {
+            input.put("noise" + i, i);
+        }
+    }
+
+    @Benchmark
+    public Object shift() {
+        return shiftr.transform(input);
+    }
+
+    @Benchmark
+    public void probeInputPerLiteral(Blackhole blackhole) {
+        for (String key : literalMap.keySet()) {
+            if (input.containsKey(key)) {
+                blackhole.consume(input.get(key));
+                blackhole.consume(literalMap.get(key));
+            }
+        }
+    }
+
+    @Benchmark
+    public void probeTablePerInputKey(Blackhole blackhole) {
+        for (Map.Entry<String, Object> entry : input.entrySet()) {
+            int index = literalTable.indexOf(entry.getKey());
+            if (index >= 0) {
+                blackhole.consume(entry.getValue());
+                blackhole.consume(literalTable.getValue(index));
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.Modifier;
+import io.joltcommunity.jolt.benchmark.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Modifiers modify their input, so every invocation transforms a fresh copy.  The cost of that
+ * copy is measured on its own by {@link #copyOnly()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ModifierBenchmark {
+
+    @Param
+    public Shape shape;
+
+    @Param({"OVERWRITR", "DEFAULTR", "DEFINR"})
+    public String mode;
+
+    private Modifier modifier;
+    private Object input;
+    private Map<String, Object> context;
+
+    static Map<String, Object> spec(Shape shape) {
+        if (shape == Shape.DEEP) {
+            return BenchmarkData.forEachLevel(level -> {
+                Map<String, Object> spec = new LinkedHashMap<>();
+                spec.put("value", "=toString");
+                spec.put("label", "=concat('level-', @(1,value))");
+                return spec;
+            });
+        }
+        return BenchmarkData.forEachRecord(shape, BenchmarkData.json(
+                "{ \"name\": \"=toUpper\", \"label\": \"=concat(@(1,name), '-', @(1,id))\"," +
+                " \"total\": \"=doubleSum(@(1,price), 10)\", \"tagCount\": \"=size(@(1,tags))\"," +
+                " \"rating\": { \"score\": \"=divide(@(1,value), @(1,max))\" } }"));
+    }
+
+    private static Modifier create(String mode, Object spec) {
+        switch (mode) {
+            case "OVERWRITR":
+                return new Modifier.Overwritr(spec);
+            case "DEFAULTR":
+                return new Modifier.Defaultr(spec);
+            case "DEFINR":
+                return new Modifier.Definr(spec);
+            default:
+                throw new IllegalArgumentException("Unknown Modifier mode " + mode);
+        }
+    }
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        if (shape == Shape.FIXTURE) {
+            Map<String, Object> fixture = BenchmarkData.fixture("/json/modifier/simple.json");
+            modifier = create(mode, fixture.get("spec"));
+            input = fixture.get("input");
+            context = (Map<String, Object>) fixture.get("context");
+        } else {
+            modifier = create(mode, spec(shape));
+            input = BenchmarkData.document(shape);
+            context = Collections.emptyMap();
+        }
+    }
+
+    @Benchmark
+    public Object transform() {
+        return modifier.transform(BenchmarkData.copy(input), context);
+    }
+
+    @Benchmark
+    public Object copyOnly() {
+        return BenchmarkData.copy(input);
+    }
+}
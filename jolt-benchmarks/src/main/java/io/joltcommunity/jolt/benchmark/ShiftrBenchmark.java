@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.benchmark;
+
+import io.joltcommunity.jolt.Shiftr;
+import io.joltcommunity.jolt.benchmark.BenchmarkData.Shape;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shiftr does not modify its input, so the same input document is reused for every invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ShiftrBenchmark {
+
+    @Param
+    public Shape shape;
+
+    private Shiftr shiftr;
+    private Object input;
+
+    static Map<String, Object> spec(Shape shape) {
+        if (shape == Shape.DEEP) {
+            return BenchmarkData.forEachLevel(level -> {
+                Map<String, Object> spec = new LinkedHashMap<>();
+                spec.put("value", "values[]");
+                return spec;
+            });
+        }
+        return BenchmarkData.forEachRecord(shape, BenchmarkData.json(
+                "{ \"id\": \"out.&1.Id\", \"name\": \"out.&1.Name\", \"price\": \"out.&1.Price\"," +
+                " \"tags\": \"out.&1.Tags\"," +
+                " \"rating\": { \"value\": \"out.&2.Rating\", \"max\": \"out.&2.RatingRange\" } }"));
+    }
+
+    @Setup
+    public void setup() {
+        if (shape == Shape.FIXTURE) {
+            Map<String, Object> fixture = BenchmarkData.fixture("/json/shiftr/firstSample.json");
+            shiftr = new Shiftr(fixture.get("spec"));
+            input = fixture.get("input");
+        } else {
+            shiftr = new Shiftr(spec(shape));
+            input = BenchmarkData.document(shape);
+        }
+    }
+
+    @Benchmark
+    public Object transform() {
+        return shiftr.transform(input);
+    }
+}
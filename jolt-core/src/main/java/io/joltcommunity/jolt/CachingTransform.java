@@ -0,0 +1,303 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt;
+
+import io.joltcommunity.jolt.common.DeepCopy;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Opt-in memoizing decorator for a Chainr, or any other Transform / ContextualTransform.
+ * <p>
+ * Results are cached by the structure of the input and context : two inputs with the same keys, in the same
+ * order, with equal values, are the same cache entry regardless of object identity.  The cache holds at most
+ * maximumSize entries, evicting the least recently used one, and entries expire timeToLive after they were
+ * computed.
+ * <p>
+ * As most of the stock transforms modify their input in place, the cache key is taken from a copy of the input
+ * made before the delegate runs, and the cached output is a private copy : every hit returns a fresh deep copy
+ * of it, which the caller is free to modify.
+ * <p>
+ * Thread safe if the delegate is.  Two threads missing on the same key at the same time will both run the
+ * delegate; the last one to finish wins.
+ */
+public class CachingTransform implements Transform, ContextualTransform {
+
+    private final ContextualTransform delegate;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    // access ordered, so that the eldest entry is the least recently used one
+    private final LinkedHashMap<StructuralKey, CacheEntry> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingTransform(JoltTransform delegate, int maximumSize, Duration timeToLive) {
+        this(delegate, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    CachingTransform(JoltTransform delegate, int maximumSize, Duration timeToLive, LongSupplier nanoClock) {
+
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("CachingTransform requires a maximumSize of at least 1, was " + maximumSize);
+        }
+        if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("CachingTransform requires a positive timeToLive, was " + timeToLive);
+        }
+
+        if (delegate instanceof ContextualTransform contextual) {
+            this.delegate = contextual;
+        } else if (delegate instanceof Transform transform) {
+            this.delegate = (input, context) -> transform.transform(input);
+        } else {
+            throw new IllegalArgumentException("CachingTransform requires a Transform or ContextualTransform to delegate to.");
+        }
+
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StructuralKey, CacheEntry> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Object transform(Object input) {
+        return transform(input, null);
+    }
+
+    @Override
+    public Object transform(Object input, Map<String, Object> context) {
+
+        StructuralKey key = new StructuralKey(input, context);
+        long now = nanoClock.getAsLong();
+
+        CacheEntry cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+            if (cached != null && now - cached.createdAt >= timeToLiveNanos) {
+                cache.remove(key);
+                evictions.increment();
+                cached = null;
+            }
+        }
+
+        if (cached != null) {
+            hits.increment();
+            return DeepCopy.simpleDeepCopy(cached.output);
+        }
+
+        misses.increment();
+        Object output = delegate.transform(input, context);
+        CacheEntry entry = new CacheEntry(DeepCopy.simpleDeepCopy(output), now);
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+        return output;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries dropped, either to make room or because they expired
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private record CacheEntry(Object output, long createdAt) {
+    }
+
+    /**
+     * Cache key made of a snapshot of the input and context trees.
+     * <p>
+     * Maps and Lists are copied so later changes to the originals can not corrupt the key, their leaves are
+     * shared.  Unlike Map.equals, the hash and equality are sensitive to the order of map entries, as
+     * the output of a transform can depend on it.  Both walk the trees without recursion.
+     */
+    private static final class StructuralKey {
+
+        // stands in for null on the ArrayDeques, which do not take nulls
+        private static final Object NULL = new Object() {
+            @Override
+            public int hashCode() {
+                return 0;
+            }
+        };
+        private static final int MAP_MARKER = 0x4d4150;
+        private static final int LIST_MARKER = 0x4c4953;
+
+        private final Object input;
+        private final Object context;
+        private final int hash;
+
+        StructuralKey(Object input, Map<String, Object> context) {
+            this.input = snapshot(input);
+            this.context = snapshot(context);
+            this.hash = 31 * structuralHash(this.input) + structuralHash(this.context);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StructuralKey other) || hash != other.hash) {
+                return false;
+            }
+            return structurallyEqual(input, other.input) && structurallyEqual(context, other.context);
+        }
+
+        private static Object snapshot(Object tree) {
+            if (!(tree instanceof Map) && !(tree instanceof List)) {
+                return tree;
+            }
+            Object root = emptyCopyOf(tree);
+            Deque<Object[]> pending = new ArrayDeque<>();
+            pending.push(new Object[]{tree, root});
+            while (!pending.isEmpty()) {
+                Object[] level = pending.pop();
+                if (level[0] instanceof Map<?, ?> original) {
+                    @SuppressWarnings("unchecked")
+                    Map<Object, Object> copy = (Map<Object, Object>) level[1];
+                    for (Map.Entry<?, ?> entry : original.entrySet()) {
+                        copy.put(entry.getKey(), snapshotChild(entry.getValue(), pending));
+                    }
+                } else {
+                    @SuppressWarnings("unchecked")
+                    List<Object> copy = (List<Object>) level[1];
+                    for (Object child : (List<?>) level[0]) {
+                        copy.add(snapshotChild(child, pending));
+                    }
+                }
+            }
+            return root;
+        }
+
+        private static Object snapshotChild(Object child, Deque<Object[]> pending) {
+            if (!(child instanceof Map) && !(child instanceof List)) {
+                return child;
+            }
+            Object copy = emptyCopyOf(child);
+            pending.push(new Object[]{child, copy});
+            return copy;
+        }
+
+        private static Object emptyCopyOf(Object container) {
+            if (container instanceof List<?> list) {
+                return new ArrayList<>(list.size());
+            }
+            return new LinkedHashMap<>((int) (((Map<?, ?>) container).size() / 0.75f) + 1);
+        }
+
+        private static int structuralHash(Object tree) {
+            int hash = 1;
+            Deque<Object> pending = new ArrayDeque<>();
+            pending.push(tree == null ? NULL : tree);
+            while (!pending.isEmpty()) {
+                Object next = pending.pop();
+                if (next instanceof Map<?, ?> map) {
+                    hash = 31 * hash + MAP_MARKER;
+                    for (Map.Entry<?, ?> entry : map.entrySet()) {
+                        hash = 31 * hash + Objects.hashCode(entry.getKey());
+                        pending.push(entry.getValue() == null ? NULL : entry.getValue());
+                    }
+                } else if (next instanceof List<?> list) {
+                    hash = 31 * hash + LIST_MARKER + list.size();
+                    for (Object child : list) {
+                        pending.push(child == null ? NULL : child);
+                    }
+                } else {
+                    hash = 31 * hash + next.hashCode();
+                }
+            }
+            return hash;
+        }
+
+        private static boolean structurallyEqual(Object a, Object b) {
+            Deque<Object> pending = new ArrayDeque<>();
+            pending.push(a == null ? NULL : a);
+            pending.push(b == null ? NULL : b);
+            while (!pending.isEmpty()) {
+                Object right = pending.pop();
+                Object left = pending.pop();
+                if (left instanceof Map<?, ?> leftMap && right instanceof Map<?, ?> rightMap) {
+                    if (leftMap.size() != rightMap.size()) {
+                        return false;
+                    }
+                    Iterator<? extends Map.Entry<?, ?>> rightEntries = rightMap.entrySet().iterator();
+                    for (Map.Entry<?, ?> leftEntry : leftMap.entrySet()) {
+                        Map.Entry<?, ?> rightEntry = rightEntries.next();
+                        if (!Objects.equals(leftEntry.getKey(), rightEntry.getKey())) {
+                            return false;
+                        }
+                        pending.push(leftEntry.getValue() == null ? NULL : leftEntry.getValue());
+                        pending.push(rightEntry.getValue() == null ? NULL : rightEntry.getValue());
+                    }
+                } else if (left instanceof List<?> leftList && right instanceof List<?> rightList) {
+                    if (leftList.size() != rightList.size()) {
+                        return false;
+                    }
+                    Iterator<?> rightItems = rightList.iterator();
+                    for (Object leftItem : leftList) {
+                        Object rightItem = rightItems.next();
+                        pending.push(leftItem == null ? NULL : leftItem);
+                        pending.push(rightItem == null ? NULL : rightItem);
+                    }
+                } else if (left instanceof Map || left instanceof List || right instanceof Map || right instanceof List
+                        || !left.equals(right)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
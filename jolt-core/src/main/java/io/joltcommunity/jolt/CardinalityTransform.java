@@ -20,6 +20,7 @@ import io.joltcommunity.jolt.cardinality.CardinalityCompositeSpec;
 import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
+import io.joltcommunity.jolt.jfr.SpecCompileEvent;
 import jakarta.inject.Inject;
 
 import java.util.Map;
@@ -194,6 +195,9 @@ import java.util.Map;
  * Map     MANY         List     make the input Map, be [0] in a new list
  * List    MANY         List     no-op
  * </pre>
+ * <p>
+ * An instance may be shared between threads, but the cardinality changes are made in place,
+ * so concurrent calls must be given distinct input objects.
  */
 public class CardinalityTransform implements SpecDriven, Transform {
 
@@ -206,6 +210,7 @@ public class CardinalityTransform implements SpecDriven, Transform {
      */
     @Inject
     public CardinalityTransform(Object spec) {
+        SpecCompileEvent compileEvent = SpecCompileEvent.start();
 
         if (spec == null) {
             throw new SpecException("CardinalityTransform expected a spec of Map type, got 'null'.");
@@ -215,6 +220,8 @@ public class CardinalityTransform implements SpecDriven, Transform {
         }
 
         rootSpec = new CardinalityCompositeSpec(ROOT_KEY, (Map<String, Object>) spec);
+
+        compileEvent.finish(getClass(), spec);
     }
 
 
@@ -17,12 +17,23 @@
 package io.joltcommunity.jolt;
 
 import io.joltcommunity.jolt.chainr.ChainrBuilder;
+import io.joltcommunity.jolt.chainr.ChainrListener;
+import io.joltcommunity.jolt.chainr.ChainrStepMetrics;
+import io.joltcommunity.jolt.chainr.TransformResult;
 import io.joltcommunity.jolt.chainr.instantiator.ChainrInstantiator;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.exception.TransformException;
+import io.joltcommunity.jolt.jfr.ChainrStepEvent;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 import io.joltcommunity.jolt.removr.Removr;
+import io.joltcommunity.jolt.utils.JoltUtils;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * Chainr is the JOLT mechanism for chaining {@link JoltTransform}s together. Any of the built-in JOLT
@@ -79,6 +90,13 @@ import java.util.*;
  *   ...
  * ]
  * </pre>
+ * <p>
+ * Thread safety : a Chainr built from the stock transforms (shift, default, remove, sort, cardinality and
+ * the modify-* family) can be shared by any number of threads.  Those transforms do all of their spec
+ * parsing at construction time and keep every bit of per-call state (WalkedPath, output maps) on the stack
+ * of the call.  Note however that default, remove, cardinality and modify-* edit the input document in place,
+ * so two threads must never transform the same input object at the same time.  Custom java transforms are
+ * only as thread safe as their implementation.
  */
 public class Chainr implements Transform, ContextualTransform {
 
@@ -89,11 +107,29 @@ public class Chainr implements Transform, ContextualTransform {
     // The list of actual ContextualTransforms, for clients that specifically care.
     private final List<ContextualTransform> actualContextualTransforms;
 
+    // The "operation" of each transform, as reported to the listener.
+    private final List<String> operationNames;
+
+    // Null unless someone is listening, so that the un-instrumented loop stays as cheap as it ever was.
+    private final ChainrListener listener;
+
     public Chainr(List<JoltTransform> joltTransforms) {
+        this(joltTransforms, null, null);
+    }
+
+    /**
+     * @param joltTransforms the transforms to run, in order
+     * @param operationNames the name to report each transform by, or null to use their class names
+     * @param listener       to be told about each step as it runs, or null
+     */
+    public Chainr(List<JoltTransform> joltTransforms, List<String> operationNames, ChainrListener listener) {
 
         if (joltTransforms == null) {
             throw new IllegalArgumentException("Chainr requires a list of JoltTransforms.");
         }
+        if (operationNames != null && operationNames.size() != joltTransforms.size()) {
+            throw new IllegalArgumentException("Chainr requires one operation name per JoltTransform.");
+        }
 
         transformsList = new ArrayList<>(joltTransforms.size());
         List<ContextualTransform> realContextualTransforms = new LinkedList<>();
@@ -126,6 +162,17 @@ public class Chainr implements Transform, ContextualTransform {
         }
 
         actualContextualTransforms = Collections.unmodifiableList(realContextualTransforms);
+
+        if (operationNames != null) {
+            this.operationNames = List.copyOf(operationNames);
+        } else {
+            List<String> classNames = new ArrayList<>(joltTransforms.size());
+            for (JoltTransform joltTransform : joltTransforms) {
+                classNames.add(joltTransform.getClass().getName());
+            }
+            this.operationNames = Collections.unmodifiableList(classNames);
+        }
+        this.listener = listener;
     }
 
     public static Chainr fromSpec(Object input) {
@@ -136,16 +183,91 @@ public class Chainr implements Transform, ContextualTransform {
         return new ChainrBuilder(input).loader(instantiator).build();
     }
 
-    private static Object doTransform(List<ContextualTransform> transforms, Object input, Map<String, Object> context) {
+    public static Chainr fromSpec(Object input, FunctionRegistry functions) {
+        return new ChainrBuilder(input).functions(functions).build();
+    }
+
+    private Object doTransform(int from, int to, Object input, Map<String, Object> context) {
+
+        if (listener != null || ChainrStepEvent.isTypeEnabled()) {
+            return doListenedTransform(from, to, input, context);
+        }
 
         Object intermediate = input;
-        for (ContextualTransform transform : transforms) {
-            intermediate = transform.transform(intermediate, context);
+        for (int index = from; index < to; index++) {
+            intermediate = transformsList.get(index).transform(intermediate, context);
+        }
+
+        return intermediate;
+    }
+
+    /**
+     * The instrumented version of the doTransform loop, reporting each step to the listener
+     * (if there is one) and as a JFR event (if a recording wants them).
+     */
+    private Object doListenedTransform(int from, int to, Object input, Map<String, Object> context) {
+
+        boolean countNodes = listener != null && listener.countNodes();
+        ThreadMXBean threadBean = listener != null && listener.measureAllocatedBytes() ? allocationMeasuringThreadBean() : null;
+
+        Object intermediate = input;
+        for (int index = from; index < to; index++) {
+
+            long inputNodeCount = countNodes ? JoltUtils.countNodes(intermediate) : -1;
+            long allocatedBefore = threadBean != null ? allocatedBytes(threadBean) : -1;
+            ChainrStepEvent stepEvent = new ChainrStepEvent();
+            stepEvent.begin();
+            long start = System.nanoTime();
+
+            Object output;
+            try {
+                output = transformsList.get(index).transform(intermediate, context);
+            } catch (RuntimeException e) {
+                long elapsed = System.nanoTime() - start;
+                if (listener != null) {
+                    long allocated = threadBean != null ? allocatedBytes(threadBean) - allocatedBefore : -1;
+                    listener.stepFailed(new ChainrStepMetrics(index, operationNames.get(index), elapsed, inputNodeCount, -1, allocated), e);
+                }
+                throw e;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            stepEvent.end();
+            long allocated = threadBean != null ? allocatedBytes(threadBean) - allocatedBefore : -1;
+            long outputNodeCount = countNodes ? JoltUtils.countNodes(output) : -1;
+
+            if (stepEvent.shouldCommit()) {
+                stepEvent.operation = operationNames.get(index);
+                stepEvent.stepIndex = index;
+                stepEvent.documentSize = outputNodeCount >= 0 ? outputNodeCount : JoltUtils.countNodes(output);
+                stepEvent.commit();
+            }
+            if (listener != null) {
+                listener.stepCompleted(new ChainrStepMetrics(index, operationNames.get(index), elapsed, inputNodeCount, outputNodeCount, allocated));
+            }
+
+            intermediate = output;
         }
 
         return intermediate;
     }
 
+    /**
+     * @return the ThreadMXBean, if this JVM can tell how much memory a thread has allocated, else null
+     */
+    private static ThreadMXBean allocationMeasuringThreadBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+            return sunBean;
+        }
+        return null;
+    }
+
+    private static long allocatedBytes(ThreadMXBean threadBean) {
+        return ((com.sun.management.ThreadMXBean) threadBean).getCurrentThreadAllocatedBytes();
+    }
+
     /**
      * Runs a series of Transforms on the input, piping the inputs and outputs of the Transforms together.
      * <p>
@@ -163,12 +285,78 @@ public class Chainr implements Transform, ContextualTransform {
      */
     @Override
     public Object transform(Object input, Map<String, Object> context) {
-        return doTransform(transformsList, input, context);
+        return doTransform(0, transformsList.size(), input, context);
     }
 
     @Override
     public Object transform(Object input) {
-        return doTransform(transformsList, input, null);
+        return doTransform(0, transformsList.size(), input, null);
+    }
+
+    /**
+     * Transforms a batch of independent records, fanning them out over the supplied Executor.
+     * <p>
+     * The returned list is in the same order as the inputs.  A record whose transform throws does not
+     * abort the batch; it is reported as a failed {@link TransformResult} in its slot.  An Error, including a
+     * StackOverflowError, is reported wrapped in a TransformException.  Only the other VirtualMachineErrors,
+     * like OutOfMemoryError, abort the batch, as the JVM may not be able to carry on with the other records.
+     * <p>
+     * Each record is handed to exactly one task, so the records must be distinct objects
+     * (see the thread safety note on this class).
+     *
+     * @param inputs   the JSON (Jackson-parsed) records to transform
+     * @param executor runs the per-record transforms, e.g. a ForkJoinPool or a virtual thread per task executor
+     * @return one TransformResult per input, in input order
+     */
+    public List<TransformResult> transformAll(List<Object> inputs, Executor executor) {
+
+        if (inputs == null || executor == null) {
+            throw new IllegalArgumentException("JOLT Chainr : transformAll requires a list of inputs and an Executor.");
+        }
+
+        List<CompletableFuture<TransformResult>> pending = new ArrayList<>(inputs.size());
+        for (Object input : inputs) {
+            pending.add(CompletableFuture.supplyAsync(() -> transformRecord(input), executor));
+        }
+
+        List<TransformResult> results = new ArrayList<>(pending.size());
+        for (CompletableFuture<TransformResult> future : pending) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Transforms a stream of independent records in parallel on the common ForkJoinPool.
+     * <p>
+     * Same contract as {@link #transformAll(List, Executor)} : results are in encounter order and
+     * per-record failures are reported rather than thrown.
+     *
+     * @param inputs the JSON (Jackson-parsed) records to transform
+     * @return one TransformResult per input, in encounter order
+     */
+    public List<TransformResult> transformAll(Stream<Object> inputs) {
+
+        if (inputs == null) {
+            throw new IllegalArgumentException("JOLT Chainr : transformAll requires a stream of inputs.");
+        }
+
+        return inputs.parallel().map(this::transformRecord).toList();
+    }
+
+    private TransformResult transformRecord(Object input) {
+        try {
+            return TransformResult.success(doTransform(0, transformsList.size(), input, null));
+        } catch (RuntimeException e) {
+            return TransformResult.failure(e);
+        } catch (StackOverflowError e) {
+            // say from a very deeply nested record; the stack has unwound by now, so only this record is affected
+            return TransformResult.failure(new TransformException("JOLT Chainr : record is nested too deeply to transform", e));
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            return TransformResult.failure(new TransformException("JOLT Chainr : transforming the record failed with " + t, t));
+        }
     }
 
     /**
@@ -221,7 +409,7 @@ public class Chainr implements Transform, ContextualTransform {
             throw new TransformException("JOLT Chainr : invalid from and to parameters : from=" + from + " to=" + to);
         }
 
-        return doTransform(transformsList.subList(from, to), input, context);
+        return doTransform(from, to, input, context);
     }
 
     /**
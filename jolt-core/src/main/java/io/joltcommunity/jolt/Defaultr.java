@@ -16,9 +16,11 @@
  */
 package io.joltcommunity.jolt;
 
+import io.joltcommunity.jolt.defaultr.DefaultTemplate;
 import io.joltcommunity.jolt.defaultr.Key;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.exception.TransformException;
+import io.joltcommunity.jolt.jfr.SpecCompileEvent;
 import jakarta.inject.Inject;
 
 import java.util.HashMap;
@@ -170,12 +172,22 @@ import java.util.Map;
  * If it is a map, no problem.
  * If it is an array, we treat the "root" level of the Defaultr spec, as if it were the child of an Array type Defaultr entry.
  * To force unambiguity, Defaultr throws an Exception if the input is null.
+ * <p>
+ * Specs with no "*" or "|" keys always default in the same tree of values, so for those the defaults
+ * are worked out when the Defaultr is built, and transforming just copies in the missing subtrees.
+ * <p>
+ * A Defaultr may be shared between threads, but as it writes the defaults into the input itself,
+ * concurrent calls must be given distinct input objects.
  */
 public class Defaultr implements SpecDriven, Transform {
 
     private final Key mapRoot;
     private final Key arrayRoot;
 
+    // Compiled versions of the roots, for specs without "*" or "|" keys, else null
+    private final DefaultTemplate mapTemplate;
+    private final DefaultTemplate arrayTemplate;
+
     /**
      * Configure an instance of Defaultr with a spec.
      *
@@ -183,6 +195,7 @@ public class Defaultr implements SpecDriven, Transform {
      */
     @Inject
     public Defaultr(Object spec) {
+        SpecCompileEvent compileEvent = SpecCompileEvent.start();
 
         String rootString = "root";
 
@@ -210,6 +223,12 @@ public class Defaultr implements SpecDriven, Transform {
             }
             arrayRoot = tempKey;
         }
+
+        // Specs of only literal keys always default the same tree, so work that out once, up front
+        mapTemplate = DefaultTemplate.compile(mapRoot).get();
+        arrayTemplate = DefaultTemplate.compile(arrayRoot).get();
+
+        compileEvent.finish(getClass(), spec);
     }
 
     /**
@@ -231,7 +250,13 @@ public class Defaultr implements SpecDriven, Transform {
             if (arrayRoot == null) {
                 throw new TransformException("The Spec provided can not handle input that is a top level Json Array.");
             }
-            arrayRoot.applyChildren(input);
+            if (arrayTemplate != null) {
+                arrayTemplate.apply(input);
+            } else {
+                arrayRoot.applyChildren(input);
+            }
+        } else if (mapTemplate != null) {
+            mapTemplate.apply(input);
         } else {
             mapRoot.applyChildren(input);
         }
@@ -22,87 +22,41 @@ import io.joltcommunity.jolt.common.tree.MatchedElement;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.modifier.OpMode;
+import io.joltcommunity.jolt.jfr.SpecCompileEvent;
 import io.joltcommunity.jolt.modifier.ModifierSpecBuilder;
-import io.joltcommunity.jolt.modifier.function.*;
-import io.joltcommunity.jolt.modifier.function.Math;
+import io.joltcommunity.jolt.modifier.function.Function;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 import io.joltcommunity.jolt.modifier.spec.ModifierCompositeSpec;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Base Modifier transform that to behave differently based on provided opMode
+ * <p>
+ * Modifiers are thread safe as long as the Functions they were built with are; the stock functions are all
+ * stateless.  Writes happen in place, so concurrent calls must be given distinct input objects.
  */
 public abstract class Modifier implements SpecDriven, ContextualTransform {
 
+    // the stock functions as a plain map, which is how the Modifiers used to be handed their functions
     private static final Map<String, Function> STOCK_FUNCTIONS = new HashMap<>();
 
     static {
-        STOCK_FUNCTIONS.put("toLower", new Strings.toLowerCase());
-        STOCK_FUNCTIONS.put("toUpper", new Strings.toUpperCase());
-        STOCK_FUNCTIONS.put("concat", new Strings.concat());
-        STOCK_FUNCTIONS.put("join", new Strings.join());
-        STOCK_FUNCTIONS.put("split", new Strings.split());
-        STOCK_FUNCTIONS.put("substring", new Strings.substring());
-        STOCK_FUNCTIONS.put("trim", new Strings.trim());
-        STOCK_FUNCTIONS.put("leftPad", new Strings.leftPad());
-        STOCK_FUNCTIONS.put("rightPad", new Strings.rightPad());
-        STOCK_FUNCTIONS.put("replace", new Strings.replace());
-        STOCK_FUNCTIONS.put("replaceAll", new Strings.replaceAll());
-
-        STOCK_FUNCTIONS.put("min", new Math.min());
-        STOCK_FUNCTIONS.put("max", new Math.max());
-        STOCK_FUNCTIONS.put("abs", new Math.abs());
-        STOCK_FUNCTIONS.put("avg", new Math.avg());
-        STOCK_FUNCTIONS.put("intSum", new Math.intSum());
-        STOCK_FUNCTIONS.put("doubleSum", new Math.doubleSum());
-        STOCK_FUNCTIONS.put("longSum", new Math.longSum());
-        STOCK_FUNCTIONS.put("intSubtract", new Math.intSubtract());
-        STOCK_FUNCTIONS.put("doubleSubtract", new Math.doubleSubtract());
-        STOCK_FUNCTIONS.put("longSubtract", new Math.longSubtract());
-        STOCK_FUNCTIONS.put("divide", new Math.divide());
-        STOCK_FUNCTIONS.put("divideAndRound", new Math.divideAndRound());
-        STOCK_FUNCTIONS.put("multiply", new Math.multiply());
-        STOCK_FUNCTIONS.put("multiplyAndRound", new Math.multiplyAndRound());
-
-        STOCK_FUNCTIONS.put("toInteger", new Objects.toInteger());
-        STOCK_FUNCTIONS.put("toDouble", new Objects.toDouble());
-        STOCK_FUNCTIONS.put("toLong", new Objects.toLong());
-        STOCK_FUNCTIONS.put("toBoolean", new Objects.toBoolean());
-        STOCK_FUNCTIONS.put("toString", new Objects.toString());
-        STOCK_FUNCTIONS.put("size", new Objects.size());
-
-        STOCK_FUNCTIONS.put("squashNulls", new Objects.squashNulls());
-        STOCK_FUNCTIONS.put("recursivelySquashNulls", new Objects.recursivelySquashNulls());
-        STOCK_FUNCTIONS.put("squashDuplicates", new Objects.squashDuplicates());
-
-        STOCK_FUNCTIONS.put("noop", Function.noop);
-        STOCK_FUNCTIONS.put("isPresent", Function.isPresent);
-        STOCK_FUNCTIONS.put("notNull", Function.notNull);
-        STOCK_FUNCTIONS.put("isNull", Function.isNull);
-        STOCK_FUNCTIONS.put("uuid", Function.uuid);
-
-        STOCK_FUNCTIONS.put("firstElement", new Lists.firstElement());
-        STOCK_FUNCTIONS.put("lastElement", new Lists.lastElement());
-        STOCK_FUNCTIONS.put("elementAt", new Lists.elementAt());
-        STOCK_FUNCTIONS.put("toList", new Lists.toList());
-        STOCK_FUNCTIONS.put("sort", new Lists.sort());
-
-        STOCK_FUNCTIONS.put("fromEpochMilli", new Dates.fromEpochMilli());
-        STOCK_FUNCTIONS.put("toEpochMilli", new Dates.toEpochMilli());
-        STOCK_FUNCTIONS.put("now", new Dates.now());
-        STOCK_FUNCTIONS.put("nowEpochMillis", Dates.now);
-        STOCK_FUNCTIONS.put("dateAdd", new Dates.dateAdd());
-        STOCK_FUNCTIONS.put("dateSubstract", new Dates.dateSubstract());
-        STOCK_FUNCTIONS.put("formatDate", new Dates.formatDate());
-
+        for (Map.Entry<String, FunctionRegistry.Definition> entry : FunctionRegistry.stock().getDefinitions().entrySet()) {
+            STOCK_FUNCTIONS.put(entry.getKey(), entry.getValue().getFunction());
+        }
     }
 
     private final ModifierCompositeSpec rootSpec;
 
-    @SuppressWarnings("unchecked")
     private Modifier(Object spec, OpMode opMode, Map<String, Function> functionsMap) {
+        this(spec, opMode, functionsMap == null || functionsMap.isEmpty() ? null : FunctionRegistry.of(functionsMap));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Modifier(Object spec, OpMode opMode, FunctionRegistry functions) {
+        SpecCompileEvent compileEvent = SpecCompileEvent.start();
         if (spec == null) {
             throw new SpecException(opMode.name() + " expected a spec of Map type, got 'null'.");
         }
@@ -110,13 +64,14 @@ public abstract class Modifier implements SpecDriven, ContextualTransform {
             throw new SpecException(opMode.name() + " expected a spec of Map type, got " + spec.getClass().getSimpleName());
         }
 
-        if (functionsMap == null || functionsMap.isEmpty()) {
-            throw new SpecException(opMode.name() + " expected a populated functions' map type, got " + (functionsMap == null ? "null" : "empty"));
+        if (functions == null || functions.isEmpty()) {
+            throw new SpecException(opMode.name() + " expected a populated functions' map type, got " + (functions == null ? "null" : "empty"));
         }
 
-        functionsMap = Collections.unmodifiableMap(functionsMap);
-        ModifierSpecBuilder modifierSpecBuilder = new ModifierSpecBuilder(opMode, functionsMap);
+        ModifierSpecBuilder modifierSpecBuilder = new ModifierSpecBuilder(opMode, functions);
         rootSpec = new ModifierCompositeSpec(ROOT_KEY, (Map<String, Object>) spec, opMode, modifierSpecBuilder);
+
+        compileEvent.finish(getClass(), spec);
     }
 
     @Override
@@ -146,6 +101,10 @@ public abstract class Modifier implements SpecDriven, ContextualTransform {
         public Overwritr(Object spec, Map<String, Function> functionsMap) {
             super(spec, OpMode.OVERWRITR, functionsMap);
         }
+
+        public Overwritr(Object spec, FunctionRegistry functions) {
+            super(spec, OpMode.OVERWRITR, functions);
+        }
     }
 
     /**
@@ -160,6 +119,10 @@ public abstract class Modifier implements SpecDriven, ContextualTransform {
         public Definr(Object spec, Map<String, Function> functionsMap) {
             super(spec, OpMode.DEFINER, functionsMap);
         }
+
+        public Definr(Object spec, FunctionRegistry functions) {
+            super(spec, OpMode.DEFINER, functions);
+        }
     }
 
     /**
@@ -174,5 +137,9 @@ public abstract class Modifier implements SpecDriven, ContextualTransform {
         public Defaultr(Object spec, Map<String, Function> functionsMap) {
             super(spec, OpMode.DEFAULTR, functionsMap);
         }
+
+        public Defaultr(Object spec, FunctionRegistry functions) {
+            super(spec, OpMode.DEFAULTR, functions);
+        }
     }
 }
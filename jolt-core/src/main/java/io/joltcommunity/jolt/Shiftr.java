@@ -16,10 +16,11 @@
  */
 package io.joltcommunity.jolt;
 
-import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
+import io.joltcommunity.jolt.jfr.SpecCompileEvent;
+import io.joltcommunity.jolt.shiftr.ShiftrPlan;
 import io.joltcommunity.jolt.shiftr.spec.ShiftrCompositeSpec;
 import jakarta.inject.Inject;
 
@@ -460,10 +461,14 @@ import java.util.Map;
  * <p>
  * Instances of this class execute Shiftr transformations given a transform spec of Jackson-style maps of maps
  * and a Jackson-style map-of-maps input.
+ * <p>
+ * A Shiftr is safe to share between threads : the spec is compiled into an immutable plan at construction,
+ * and transform only reads its input, building a fresh output per call.
  */
 public class Shiftr implements SpecDriven, Transform {
 
-    private final ShiftrCompositeSpec rootSpec;
+    // the spec, compiled into a plan so that no per node classification work is left to do at transform time
+    private final ShiftrPlan plan;
 
     /**
      * Initialize a Shiftr transform with a Spec.
@@ -472,6 +477,7 @@ public class Shiftr implements SpecDriven, Transform {
      */
     @Inject
     public Shiftr(Object spec) {
+        SpecCompileEvent compileEvent = SpecCompileEvent.start();
 
         if (spec == null) {
             throw new SpecException("Shiftr expected a spec of Map type, got 'null'.");
@@ -480,7 +486,9 @@ public class Shiftr implements SpecDriven, Transform {
             throw new SpecException("Shiftr expected a spec of Map type, got " + spec.getClass().getSimpleName());
         }
 
-        rootSpec = new ShiftrCompositeSpec(ROOT_KEY, (Map<String, Object>) spec);
+        plan = ShiftrPlan.compile(new ShiftrCompositeSpec(ROOT_KEY, (Map<String, Object>) spec));
+
+        compileEvent.finish(getClass(), spec);
     }
 
 
@@ -502,7 +510,7 @@ public class Shiftr implements SpecDriven, Transform {
         WalkedPath walkedPath = new WalkedPath();
         walkedPath.add(input, rootLpe);
 
-        rootSpec.apply(ROOT_KEY, Optional.of(input), walkedPath, output, null);
+        plan.execute(ROOT_KEY, input, walkedPath, output);
 
         return output.get(ROOT_KEY);
     }
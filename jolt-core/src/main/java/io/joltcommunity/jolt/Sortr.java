@@ -25,6 +25,8 @@ import java.util.*;
  * Note this will make a copy of the input Map and List objects.
  * <p>
  * The sort order is standard alphabetical ascending, with a special case for "~" prefixed keys to be bumped to the top.
+ * <p>
+ * Sortr is stateless and does not modify its input, so it is safe to use from any number of threads.
  */
 public class Sortr implements Transform {
 
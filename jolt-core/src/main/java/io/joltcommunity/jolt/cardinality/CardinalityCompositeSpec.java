@@ -17,6 +17,7 @@
 package io.joltcommunity.jolt.cardinality;
 
 import io.joltcommunity.jolt.common.ComputedKeysComparator;
+import io.joltcommunity.jolt.common.IndexKeys;
 import io.joltcommunity.jolt.common.pathelement.AmpPathElement;
 import io.joltcommunity.jolt.common.pathelement.AtPathElement;
 import io.joltcommunity.jolt.common.pathelement.LiteralPathElement;
@@ -180,7 +181,7 @@ public class CardinalityCompositeSpec extends CardinalitySpec {
         // Handle the rest of the children
         process(input, walkedPath);
 
-        walkedPath.removeLastElement();
+        walkedPath.dropLastElement();
         return true;
     }
 
@@ -198,7 +199,7 @@ public class CardinalityCompositeSpec extends CardinalitySpec {
 
             for (int index = 0; index < ((List<Object>) input).size(); index++) {
                 Object subInput = ((List<Object>) input).get(index);
-                String subKeyStr = Integer.toString(index);
+                String subKeyStr = IndexKeys.toKey(index);
 
                 applyKeyToLiteralAndComputed(this, subKeyStr, subInput, walkedPath, input);
             }
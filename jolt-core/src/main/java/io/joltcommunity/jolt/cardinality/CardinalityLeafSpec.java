@@ -108,7 +108,7 @@ public class CardinalityLeafSpec extends CardinalitySpec {
             }
         }
 
-        walkedPath.removeLastElement();
+        walkedPath.dropLastElement();
 
         return returnValue;
     }
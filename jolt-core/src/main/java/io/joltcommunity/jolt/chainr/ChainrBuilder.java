@@ -22,6 +22,8 @@ import io.joltcommunity.jolt.chainr.instantiator.ChainrInstantiator;
 import io.joltcommunity.jolt.chainr.instantiator.DefaultChainrInstantiator;
 import io.joltcommunity.jolt.chainr.spec.ChainrEntry;
 import io.joltcommunity.jolt.chainr.spec.ChainrSpec;
+import io.joltcommunity.jolt.jfr.ChainrBuildEvent;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +33,8 @@ public class ChainrBuilder {
     private final Object chainrSpecObj;
     protected ChainrInstantiator chainrInstantiator = new DefaultChainrInstantiator();
     private ClassLoader classLoader = ChainrBuilder.class.getClassLoader();
+    private ChainrListener listener;
+    private FunctionRegistry functions;
 
     /**
      * Initialize a Chainr to run a list of Transforms.
@@ -66,15 +70,54 @@ public class ChainrBuilder {
         return this;
     }
 
+    /**
+     * Set a ChainrListener to be told about every step the built Chainr runs.
+     * If one is not set, the Chainr does no instrumentation at all.
+     *
+     * @param listener ChainrListener to report each step to
+     */
+    public ChainrBuilder listener(ChainrListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("ChainrBuilder requires a non-null listener.");
+        }
+        this.listener = listener;
+        return this;
+    }
+
+    /**
+     * Set the functions the Modifier steps of the Chainr can call.
+     * If none are set, they can call the stock functions, see {@link FunctionRegistry#stock()}.
+     *
+     * @param functions FunctionRegistry to build the Modifier steps with
+     */
+    public ChainrBuilder functions(FunctionRegistry functions) {
+        if (functions == null) {
+            throw new IllegalArgumentException("ChainrBuilder requires a non-null functions registry.");
+        }
+        this.functions = functions;
+        return this;
+    }
+
     public Chainr build() {
+        ChainrBuildEvent buildEvent = new ChainrBuildEvent();
+        buildEvent.begin();
+
         ChainrSpec chainrSpec = new ChainrSpec(chainrSpecObj, classLoader);
         List<JoltTransform> transforms = new ArrayList<>(chainrSpec.getChainrEntries().size());
+        List<String> operationNames = new ArrayList<>(chainrSpec.getChainrEntries().size());
         for (ChainrEntry entry : chainrSpec.getChainrEntries()) {
 
-            JoltTransform transform = chainrInstantiator.hydrateTransform(entry);
+            JoltTransform transform = functions == null
+                    ? chainrInstantiator.hydrateTransform(entry)
+                    : chainrInstantiator.hydrateTransform(entry, functions);
             transforms.add(transform);
+            operationNames.add(entry.getOperationName());
         }
 
-        return new Chainr(transforms);
+        Chainr chainr = new Chainr(transforms, operationNames, listener);
+
+        buildEvent.stepCount = transforms.size();
+        buildEvent.commit();
+        return chainr;
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.chainr;
+
+/**
+ * Callback for watching each step of a Chainr run, e.g. to export per-step latency metrics.
+ * <p>
+ * Register one via {@link ChainrBuilder#listener(ChainrListener)}.  A Chainr without a listener does not
+ * pay for any of this : it runs the exact same loop over its transforms as it always has.
+ * <p>
+ * Measuring node counts and allocated bytes costs time of its own, so it is only done if the listener
+ * asks for it.  Listeners are called on the thread running the transform, and need to be thread safe if
+ * the Chainr is shared between threads.
+ */
+public interface ChainrListener {
+
+    /**
+     * @return true to have the input and output of every step counted, see {@link ChainrStepMetrics#inputNodeCount()}
+     */
+    default boolean countNodes() {
+        return false;
+    }
+
+    /**
+     * @return true to have the bytes allocated by every step measured, see {@link ChainrStepMetrics#allocatedBytes()}
+     */
+    default boolean measureAllocatedBytes() {
+        return false;
+    }
+
+    /**
+     * Called after each step that completed normally.
+     */
+    void stepCompleted(ChainrStepMetrics metrics);
+
+    /**
+     * Called when a step throws, before the exception propagates out of the Chainr.
+     * The output node count of the metrics is always -1.
+     */
+    default void stepFailed(ChainrStepMetrics metrics, RuntimeException failure) {
+    }
+}
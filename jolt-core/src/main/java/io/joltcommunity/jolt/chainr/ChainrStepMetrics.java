@@ -0,0 +1,32 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.chainr;
+
+/**
+ * What a {@link ChainrListener} gets to know about one step of a Chainr run.
+ *
+ * @param stepIndex       index of the step in the Chainr spec
+ * @param operationName   the "operation" of the step as written in the spec, e.g. "shift"
+ * @param elapsedNanos    wall clock time taken by the step
+ * @param inputNodeCount  number of Maps, Lists and values in the step's input, or -1 if not counted
+ * @param outputNodeCount number of Maps, Lists and values in the step's output, or -1 if not counted
+ * @param allocatedBytes  bytes allocated by the thread running the step, or -1 if not measured or not
+ *                        supported by the JVM
+ */
+public record ChainrStepMetrics(int stepIndex, String operationName, long elapsedNanos,
+                                long inputNodeCount, long outputNodeCount, long allocatedBytes) {
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.chainr;
+
+/**
+ * The outcome of transforming one record of a batch via {@link io.joltcommunity.jolt.Chainr#transformAll}.
+ * <p>
+ * Exactly one of output or failure is meaningful : a record that blew up does not abort the batch,
+ * it just comes back as a failed TransformResult in the same position as its input.
+ */
+public final class TransformResult {
+
+    private final Object output;
+    private final RuntimeException failure;
+
+    private TransformResult(Object output, RuntimeException failure) {
+        this.output = output;
+        this.failure = failure;
+    }
+
+    public static TransformResult success(Object output) {
+        return new TransformResult(output, null);
+    }
+
+    public static TransformResult failure(RuntimeException failure) {
+        if (failure == null) {
+            throw new IllegalArgumentException("A failed TransformResult requires the exception that caused it.");
+        }
+        return new TransformResult(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * @return the transformed record, or null if this record failed (or legitimately transformed to null)
+     */
+    public Object getOutput() {
+        return output;
+    }
+
+    /**
+     * @return the exception thrown while transforming this record, or null if it succeeded
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+}
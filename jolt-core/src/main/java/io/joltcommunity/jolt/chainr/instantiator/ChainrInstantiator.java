@@ -18,6 +18,7 @@ package io.joltcommunity.jolt.chainr.instantiator;
 
 import io.joltcommunity.jolt.JoltTransform;
 import io.joltcommunity.jolt.chainr.spec.ChainrEntry;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 
 /**
  * Interface to allow the guts of the Transform class loading logic to be swapped out.
@@ -30,4 +31,12 @@ public interface ChainrInstantiator {
      * Instantiate the Transform class specified by the ChainrEntry.
      */
     public JoltTransform hydrateTransform(ChainrEntry entry);
+
+    /**
+     * Instantiate the Transform class specified by the ChainrEntry, handing it the functions its spec may call,
+     * if it takes any.  By default the functions are ignored.
+     */
+    default JoltTransform hydrateTransform(ChainrEntry entry, FunctionRegistry functions) {
+        return hydrateTransform(entry);
+    }
 }
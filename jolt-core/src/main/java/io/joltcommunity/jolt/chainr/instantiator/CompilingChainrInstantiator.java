@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.chainr.instantiator;
+
+import io.joltcommunity.jolt.JoltTransform;
+import io.joltcommunity.jolt.Shiftr;
+import io.joltcommunity.jolt.chainr.spec.ChainrEntry;
+import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.exception.SpecException;
+import io.joltcommunity.jolt.shiftr.DirectShiftr;
+
+/**
+ * ChainrInstantiator that compiles the "shift" entries it can into a {@link DirectShiftr},
+ * which transforms with direct Map / List gets and puts.
+ * <p>
+ * Every other entry, and every shift entry that can not be compiled, is loaded via Java Reflection
+ * like the DefaultChainrInstantiator does, so the resulting Chainr behaves exactly the same.
+ * <p>
+ * Meant for Chainr specs that are fixed for the lifetime of the process :
+ * <pre>
+ * Chainr chainr = Chainr.fromSpec( spec, new CompilingChainrInstantiator() );
+ * </pre>
+ */
+public class CompilingChainrInstantiator extends DefaultChainrInstantiator {
+
+    @Override
+    public JoltTransform hydrateTransform(ChainrEntry entry) {
+
+        if (entry.getJoltTransformClass() == Shiftr.class) {
+            try {
+                Optional<DirectShiftr> compiled = DirectShiftr.compile(entry.getSpec());
+                if (compiled.isPresent()) {
+                    return compiled.get();
+                }
+            } catch (SpecException se) {
+                // Let the regular construction report the bad spec, with the index of the entry
+            }
+        }
+
+        return super.hydrateTransform(entry);
+    }
+}
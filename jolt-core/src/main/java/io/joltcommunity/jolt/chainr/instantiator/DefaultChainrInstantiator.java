@@ -19,6 +19,7 @@ package io.joltcommunity.jolt.chainr.instantiator;
 import io.joltcommunity.jolt.JoltTransform;
 import io.joltcommunity.jolt.chainr.spec.ChainrEntry;
 import io.joltcommunity.jolt.exception.SpecException;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 
 import java.lang.reflect.Constructor;
 
@@ -59,4 +60,33 @@ public class DefaultChainrInstantiator implements ChainrInstantiator {
                     + transformClass.getCanonicalName() + entry.getErrorMessageIndexSuffix(), e);
         }
     }
+
+    /**
+     * Spec driven transforms with a constructor taking the spec and a FunctionRegistry, like the Modifiers, are
+     * given the functions.  Every other transform is loaded as by {@link #hydrateTransform(ChainrEntry)}.
+     */
+    @Override
+    public JoltTransform hydrateTransform(ChainrEntry entry, FunctionRegistry functions) {
+
+        Class<? extends JoltTransform> transformClass = entry.getJoltTransformClass();
+
+        Constructor<? extends JoltTransform> constructor = null;
+        if (functions != null && entry.isSpecDriven()) {
+            try {
+                constructor = transformClass.getConstructor(Object.class, FunctionRegistry.class);
+            } catch (NoSuchMethodException nsme) {
+                // takes no functions
+            }
+        }
+        if (constructor == null) {
+            return hydrateTransform(entry);
+        }
+
+        try {
+            return constructor.newInstance(entry.getSpec(), functions);
+        } catch (Exception e) {
+            throw new SpecException("JOLT Chainr encountered an exception constructing Transform className:"
+                    + transformClass.getCanonicalName() + entry.getErrorMessageIndexSuffix(), e);
+        }
+    }
 }
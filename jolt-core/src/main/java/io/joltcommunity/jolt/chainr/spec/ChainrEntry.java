@@ -60,6 +60,7 @@ public class ChainrEntry {
 
     private final int index;
     private final Object spec;
+    private final String operationName;
     private final String operationClassName;
 
     private final Class<? extends JoltTransform> joltTransformClass;
@@ -90,6 +91,7 @@ public class ChainrEntry {
             throw new SpecException("JOLT Chainr 'operation' must implement Transform or ContextualTransform" + getErrorMessageIndexSuffix());
         }
 
+        operationName = opString;
         operationClassName = STOCK_TRANSFORMS.getOrDefault(opString, opString);
 
         joltTransformClass = loadJoltTransformClass(classLoader);
@@ -148,6 +150,20 @@ public class ChainrEntry {
         return " at index:" + index + ".";
     }
 
+    /**
+     * @return index of this entry in the overall ChainrSpec
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the "operation" as written in the spec, e.g. "shift" or the name of a custom Java class
+     */
+    public String getOperationName() {
+        return operationName;
+    }
+
     /**
      * @return Spec for the transform, can be null
      */
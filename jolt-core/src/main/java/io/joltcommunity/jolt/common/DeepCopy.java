@@ -17,21 +17,129 @@
 package io.joltcommunity.jolt.common;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
 
 public class DeepCopy {
 
     /**
-     * Simple deep copy, that leverages Java Serialization.
-     * Supplied object is serialized to an in memory buffer (byte array),
-     * and then a new object is reconstituted from that byte array.
+     * Deep copy of a JSON (Jackson-parsed) tree of Maps, Lists and scalars.
+     * <p>
+     * Maps and Lists are copied structurally into pre-sized containers : LinkedHashMaps and other Maps keep
+     * their iteration order, HashMaps and TreeMaps stay HashMaps and TreeMaps.  The tree is walked with an
+     * explicit stack rather than by recursion, so arbitrarily deep documents can be copied.
      * <p>
-     * This is meant for copying small objects or object graphs, and will
-     * probably do nasty things if asked to copy a large graph.
+     * Immutable scalars (Strings, Booleans, Characters and the stock Number types) are shared with the
+     * original rather than copied.  Anything else is copied via Java Serialization, and thus has to be
+     * Serializable.
+     * <p>
+     * Note that the copy is of a tree : a Map or List that appears twice in the original appears as two
+     * separate copies in the result, and the original must not contain cycles.
      *
      * @param object object to deep copy
      * @return deep copy of the object
      */
     public static Object simpleDeepCopy(Object object) {
+
+        if (!isContainer(object)) {
+            return copyScalar(object);
+        }
+
+        Object rootCopy = emptyCopyOf(object);
+
+        // Each entry is a { original, copy } pair of containers whose children still need to be copied.
+        Deque<Object[]> pending = new ArrayDeque<>();
+        pending.push(new Object[]{object, rootCopy});
+
+        while (!pending.isEmpty()) {
+            Object[] level = pending.pop();
+
+            if (level[0] instanceof Map<?, ?> original) {
+                @SuppressWarnings("unchecked")
+                Map<Object, Object> copy = (Map<Object, Object>) level[1];
+                for (Map.Entry<?, ?> entry : original.entrySet()) {
+                    copy.put(entry.getKey(), copyChild(entry.getValue(), pending));
+                }
+            } else {
+                @SuppressWarnings("unchecked")
+                List<Object> copy = (List<Object>) level[1];
+                for (Object child : (List<?>) level[0]) {
+                    copy.add(copyChild(child, pending));
+                }
+            }
+        }
+
+        return rootCopy;
+    }
+
+    /**
+     * Scalars are copied right away, containers are handed back empty (so that they take their
+     * place in the parent in the right order) and queued up to be filled in.
+     */
+    private static Object copyChild(Object child, Deque<Object[]> pending) {
+        if (!isContainer(child)) {
+            return copyScalar(child);
+        }
+        Object childCopy = emptyCopyOf(child);
+        pending.push(new Object[]{child, childCopy});
+        return childCopy;
+    }
+
+    private static boolean isContainer(Object object) {
+        return object instanceof Map || object instanceof List;
+    }
+
+    private static Object emptyCopyOf(Object container) {
+        if (container instanceof List<?> list) {
+            return new ArrayList<>(list.size());
+        }
+        if (container instanceof TreeMap<?, ?> treeMap) {
+            return new TreeMap<>(treeMap.comparator());
+        }
+        int size = ((Map<?, ?>) container).size();
+        if (container instanceof HashMap && !(container instanceof LinkedHashMap)) {
+            return new HashMap<>(capacityFor(size));
+        }
+        return new LinkedHashMap<>(capacityFor(size));
+    }
+
+    /**
+     * @return a HashMap capacity that can hold the given number of entries without rehashing
+     */
+    private static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static Object copyScalar(Object scalar) {
+        return isImmutableScalar(scalar) ? scalar : serializationCopy(scalar);
+    }
+
+    /**
+     * @return true if object is null, a String, Boolean or Character, or one of the stock Number types, which
+     * can be shared rather than copied
+     */
+    public static boolean isImmutableScalar(Object object) {
+        return object == null
+                || object instanceof String
+                || object instanceof Boolean
+                || object instanceof Character
+                || object instanceof Integer
+                || object instanceof Long
+                || object instanceof Double
+                || object instanceof Float
+                || object instanceof Short
+                || object instanceof Byte
+                // BigDecimal and BigInteger are not final, so only trust the real thing to be immutable
+                || object.getClass() == BigDecimal.class
+                || object.getClass() == BigInteger.class;
+    }
+
+    /**
+     * Supplied object is serialized to an in memory buffer (byte array),
+     * and then a new object is reconstituted from that byte array.
+     */
+    private static Object serializationCopy(Object object) {
         try (
                 ByteArrayOutputStream bos = new ByteArrayOutputStream();
                 ObjectOutputStream oos = new ObjectOutputStream(bos)
@@ -18,31 +18,43 @@
 package io.joltcommunity.jolt.common;
 
 import io.joltcommunity.jolt.common.spec.BaseSpec;
+import io.joltcommunity.jolt.common.spec.LiteralTable;
 import io.joltcommunity.jolt.common.spec.OrderedCompositeSpec;
+import io.joltcommunity.jolt.common.tree.PathStep;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 public enum ExecutionStrategy {
 
     /**
-     * The performance assumption built into this code is that the literal values in the spec, are generally smaller
-     * than the number of potential keys to check in the input.
+     * Only the literal children whose keys are present in the input are applied.
      * <p>
-     * More specifically, the assumption here is that the set of literalChildren is smaller than the input "keyset".
+     * For map input, whichever of the literalChildren and the input "keyset" is smaller is the one walked,
+     * and the other side is probed.
      */
     AVAILABLE_LITERALS {
         @Override
         void processMap(OrderedCompositeSpec spec, Map<String, Object> inputMap, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            for (String key : spec.getLiteralChildren().keySet()) {
+            LiteralTable<? extends BaseSpec> literals = spec.getLiteralTable();
 
-                // Do not work if the value is missing in the input map
-                if (inputMap.containsKey(key)) {
+            // Iterate whichever side is smaller; a wide spec against a sparse input only probes the literal table
+            //  for the keys that are actually there
+            if (inputMap.size() < literals.size()) {
+                processSparseMap(literals, inputMap, walkedPath, output, context);
+                return;
+            }
+
+            for (int i = 0; i < literals.size(); i++) {
+                String key = literals.getKey(i);
+                Object subInput = inputMap.get(key);
 
-                    Optional<Object> subInputOptional = Optional.of(inputMap.get(key));
-                    spec.getLiteralChildren().get(key).apply(key, subInputOptional, walkedPath, output, context);
+                // Do not work if the value is missing in the input map
+                if (subInput != null || inputMap.containsKey(key)) {
+                    literals.getValue(i).apply(key, Optional.of(subInput), walkedPath, output, context);
                 }
             }
         }
@@ -50,21 +62,15 @@ public enum ExecutionStrategy {
         @Override
         void processList(OrderedCompositeSpec spec, List<Object> inputList, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            Integer originalSize = walkedPath.lastElement().getOrigSize().get();
-            for (String key : spec.getLiteralChildren().keySet()) {
-
-                int keyInt = Integer.MAX_VALUE;
-
-                try {
-                    keyInt = Integer.parseInt(key);
-                } catch (NumberFormatException nfe) {
-                    // If the data is an Array, but the spec keys are Non-Integer Strings,
-                    //  we are annoyed, but we don't stop the whole transform.
-                    // Just this part of the Transform won't work.
-                }
+            PathStep parent = walkedPath.lastElement();
+            Integer originalSize = parent.hasOrigSize() ? parent.getRawOrigSize() : null;
+            LiteralTable<? extends BaseSpec> literals = spec.getLiteralTable();
+            for (int i = 0; i < literals.size(); i++) {
+                String key = literals.getKey(i);
+                int keyInt = literals.getListIndex(i);
 
                 // Do not work if the index is outside of the input list
-                if (keyInt < inputList.size()) {
+                if (keyInt >= 0 && keyInt < inputList.size()) {
 
                     Object subInput = inputList.get(keyInt);
                     Optional<Object> subInputOptional;
@@ -74,8 +80,7 @@ public enum ExecutionStrategy {
                         subInputOptional = Optional.of(subInput);
                     }
 
-                    // we know the .get(key) will not return null, because we are iterating over its keys
-                    spec.getLiteralChildren().get(key).apply(key, subInputOptional, walkedPath, output, context);
+                    literals.getValue(i).apply(key, subInputOptional, walkedPath, output, context);
                 }
             }
         }
@@ -83,7 +88,7 @@ public enum ExecutionStrategy {
         @Override
         void processScalar(OrderedCompositeSpec spec, String scalarInput, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            BaseSpec literalChild = spec.getLiteralChildren().get(scalarInput);
+            BaseSpec literalChild = spec.getLiteralTable().get(scalarInput);
             if (literalChild != null) {
                 literalChild.apply(scalarInput, Optional.empty(), walkedPath, output, context);
             }
@@ -99,45 +104,41 @@ public enum ExecutionStrategy {
         @Override
         void processMap(OrderedCompositeSpec spec, Map<String, Object> inputMap, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            for (String key : spec.getLiteralChildren().keySet()) {
+            LiteralTable<? extends BaseSpec> literals = spec.getLiteralTable();
+            for (int i = 0; i < literals.size(); i++) {
+                String key = literals.getKey(i);
+                Object subInput = inputMap.get(key);
 
                 // if the input in not available in the map us null or else get value,
                 // then lookup and place a defined value from spec there
                 Optional<Object> subInputOptional = Optional.empty();
-                if (inputMap.containsKey(key)) {
-                    subInputOptional = Optional.of(inputMap.get(key));
+                if (subInput != null || inputMap.containsKey(key)) {
+                    subInputOptional = Optional.of(subInput);
                 }
-                spec.getLiteralChildren().get(key).apply(key, subInputOptional, walkedPath, output, context);
+                literals.getValue(i).apply(key, subInputOptional, walkedPath, output, context);
             }
         }
 
         @Override
         void processList(OrderedCompositeSpec spec, List<Object> inputList, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            Integer originalSize = walkedPath.lastElement().getOrigSize().get();
-            for (String key : spec.getLiteralChildren().keySet()) {
-
-                int keyInt = Integer.MAX_VALUE;
-
-                try {
-                    keyInt = Integer.parseInt(key);
-                } catch (NumberFormatException nfe) {
-                    // If the data is an Array, but the spec keys are Non-Integer Strings,
-                    //  we are annoyed, but we don't stop the whole transform.
-                    // Just this part of the Transform won't work.
-                }
+            PathStep parent = walkedPath.lastElement();
+            Integer originalSize = parent.hasOrigSize() ? parent.getRawOrigSize() : null;
+            LiteralTable<? extends BaseSpec> literals = spec.getLiteralTable();
+            for (int i = 0; i < literals.size(); i++) {
+                String key = literals.getKey(i);
+                int keyInt = literals.getListIndex(i);
 
                 // if the input in not available in the list use null or else get value,
                 // then lookup and place a default value as defined in spec there
                 Optional<Object> subInputOptional = Optional.empty();
-                if (keyInt < inputList.size()) {
+                if (keyInt >= 0 && keyInt < inputList.size()) {
                     Object subInput = inputList.get(keyInt);
                     if (subInput != null || originalSize == null || keyInt < originalSize) {
                         subInputOptional = Optional.of(subInput);
                     }
                 }
-                // we know the .get(key) will not return null, because we are iterating over its keys
-                spec.getLiteralChildren().get(key).apply(key, subInputOptional, walkedPath, output, context);
+                literals.getValue(i).apply(key, subInputOptional, walkedPath, output, context);
             }
         }
 
@@ -165,10 +166,11 @@ public enum ExecutionStrategy {
         @Override
         void processList(OrderedCompositeSpec spec, List<Object> inputList, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            Integer originalSize = walkedPath.lastElement().getOrigSize().get();
+            PathStep parent = walkedPath.lastElement();
+            Integer originalSize = parent.hasOrigSize() ? parent.getRawOrigSize() : null;
             for (int index = 0; index < inputList.size(); index++) {
                 Object subInput = inputList.get(index);
-                String subKeyStr = Integer.toString(index);
+                String subKeyStr = IndexKeys.toKey(index);
                 Optional<Object> subInputOptional;
                 if (subInput == null && originalSize != null && index >= originalSize) {
                     subInputOptional = Optional.empty();
@@ -203,10 +205,11 @@ public enum ExecutionStrategy {
         @Override
         void processList(OrderedCompositeSpec spec, List<Object> inputList, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-            Integer originalSize = walkedPath.lastElement().getOrigSize().get();
+            PathStep parent = walkedPath.lastElement();
+            Integer originalSize = parent.hasOrigSize() ? parent.getRawOrigSize() : null;
             for (int index = 0; index < inputList.size(); index++) {
                 Object subInput = inputList.get(index);
-                String subKeyStr = Integer.toString(index);
+                String subKeyStr = IndexKeys.toKey(index);
                 Optional<Object> subInputOptional;
                 if (subInput == null && originalSize != null && index >= originalSize) {
                     subInputOptional = Optional.empty();
@@ -280,7 +283,7 @@ public enum ExecutionStrategy {
      */
     private static <T extends OrderedCompositeSpec> void applyKeyToLiteralAndComputed(T spec, String subKeyStr, Optional<Object> subInputOptional, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
 
-        BaseSpec literalChild = spec.getLiteralChildren().get(subKeyStr);
+        BaseSpec literalChild = spec.getLiteralTable().get(subKeyStr);
 
         // if the subKeyStr found a literalChild, then we do not have to try to match any of the computed ones
         if (literalChild != null) {
@@ -291,6 +294,31 @@ public enum ExecutionStrategy {
         }
     }
 
+    /**
+     * AVAILABLE_LITERALS for an input map with fewer keys than the spec has literals : probe the literal table
+     * with each input key, then apply the matches in spec order, as siblings may see each other's output.
+     * <p>
+     * All the matches are found before any are applied, so that children may write into the input map.
+     */
+    private static void processSparseMap(LiteralTable<? extends BaseSpec> literals, Map<String, Object> inputMap, WalkedPath walkedPath, Map<String, Object> output, Map<String, Object> context) {
+
+        int[] matches = new int[inputMap.size()];
+        int matchCount = 0;
+        for (String key : inputMap.keySet()) {
+            int index = literals.indexOf(key);
+            if (index >= 0) {
+                matches[matchCount++] = index;
+            }
+        }
+
+        Arrays.sort(matches, 0, matchCount);
+
+        for (int i = 0; i < matchCount; i++) {
+            String key = literals.getKey(matches[i]);
+            literals.getValue(matches[i]).apply(key, Optional.of(inputMap.get(key)), walkedPath, output, context);
+        }
+    }
+
     private static <T extends BaseSpec> void applyKeyToComputed(List<T> computedChildren, WalkedPath walkedPath, Map<String, Object> output, String subKeyStr, Optional<Object> subInputOptional, Map<String, Object> context) {
 
         // Iterate through all the getComputedChildren() until we find a match
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.common;
+
+/**
+ * The String keys of list indices.
+ * <p>
+ * Walking a list hands each element to the spec under its index as a String key, which is an allocation
+ * per element in the innermost loop of every list heavy document.  Index keys are interned here instead :
+ * each one is built the first time any list reaches it and shared from then on.
+ */
+public final class IndexKeys {
+
+    // chunked so that the cache only grows as far as the longest list seen so far
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int MAX_CACHED = 1 << 17;
+
+    // Racy by design : Strings are immutable, so a thread that does not see another's write just builds its own copy
+    private static final String[][] chunks = new String[MAX_CACHED >>> CHUNK_BITS][];
+
+    private IndexKeys() {
+        // Prevent instantiation
+    }
+
+    /**
+     * @return the String form of a list index, shared for indices below 131072
+     */
+    public static String toKey(int index) {
+        if (index < 0 || index >= MAX_CACHED) {
+            return Integer.toString(index);
+        }
+
+        String[] chunk = chunks[index >>> CHUNK_BITS];
+        if (chunk == null) {
+            chunk = new String[CHUNK_SIZE];
+            chunks[index >>> CHUNK_BITS] = chunk;
+        }
+
+        String key = chunk[index & (CHUNK_SIZE - 1)];
+        if (key == null) {
+            key = Integer.toString(index);
+            chunk[index & (CHUNK_SIZE - 1)] = key;
+        }
+        return key;
+    }
+}
@@ -16,7 +16,9 @@
  */
 package io.joltcommunity.jolt.common;
 
+import io.joltcommunity.jolt.common.pathelement.ArrayPathElement;
 import io.joltcommunity.jolt.common.pathelement.EvaluatablePathElement;
+import io.joltcommunity.jolt.common.pathelement.LiteralPathElement;
 import io.joltcommunity.jolt.common.pathelement.PathElement;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
@@ -41,6 +43,12 @@ public abstract class PathEvaluatingTraversal {
     private final List<EvaluatablePathElement> elements;
     private final Traversr traversr;
 
+    // the output path as far as it is known at spec time : constant elements are evaluated once, here, and
+    //  only the elements at dynamicIndices have to be evaluated against the WalkedPath of each write
+    private final String[] constantKeys;
+    private final EvaluatablePathElement[] dynamicElements;
+    private final int[] dynamicIndices;
+
     public PathEvaluatingTraversal(String dotNotation) {
 
         if ((dotNotation.contains("*") && !dotNotation.contains("\\*")) ||
@@ -78,6 +86,34 @@ public abstract class PathEvaluatingTraversal {
 
         this.elements = Collections.unmodifiableList(evalPaths);
         this.traversr = trav;
+
+        constantKeys = new String[evalPaths.size()];
+        List<Integer> dynamic = new ArrayList<>();
+        for (int i = 0; i < constantKeys.length; i++) {
+            EvaluatablePathElement pe = evalPaths.get(i);
+            if (isConstant(pe)) {
+                constantKeys[i] = pe.evaluate(null);
+            } else {
+                dynamic.add(i);
+            }
+        }
+        dynamicIndices = new int[dynamic.size()];
+        dynamicElements = new EvaluatablePathElement[dynamic.size()];
+        for (int i = 0; i < dynamicIndices.length; i++) {
+            dynamicIndices[i] = dynamic.get(i);
+            dynamicElements[i] = evalPaths.get(dynamicIndices[i]);
+        }
+    }
+
+    /**
+     * @return true if the PathElement evaluates to the same key no matter where in the tree walk we are
+     */
+    private static boolean isConstant(EvaluatablePathElement pe) {
+        if (pe instanceof LiteralPathElement) {
+            return true;
+        }
+        // "[3]" and "[]", as opposed to "[&1]", "[#2]" or "[@(1,index)]"
+        return pe instanceof ArrayPathElement ape && (ape.isExplicitArrayIndex() || "[]".equals(ape.getCanonicalForm()));
     }
 
     protected abstract Traversr createTraversr(List<String> paths);
@@ -92,19 +128,47 @@ public abstract class PathEvaluatingTraversal {
      * @param walkedPath reference used to lookup reference values like "&1(2)"
      */
     public void write(Object data, Map<String, Object> output, WalkedPath walkedPath) {
-        List<String> evaledPaths = evaluate(walkedPath);
-        if (evaledPaths != null) {
-            traversr.set(output, evaledPaths, data);
+
+        // the common case, a path of only literals, needs no evaluation at all
+        if (dynamicIndices.length == 0) {
+            traversr.set(output, constantKeys, data);
+            return;
         }
+
+        String[] keys = walkedPath.keyBuffer(constantKeys.length);
+        System.arraycopy(constantKeys, 0, keys, 0, constantKeys.length);
+        for (int i = 0; i < dynamicIndices.length; i++) {
+            String evaledLeafOutput = dynamicElements[i].evaluate(walkedPath);
+            if (evaledLeafOutput == null) {
+                // If this output path contains a TransposePathElement, and when evaluated,
+                //  return null, then bail
+                return;
+            }
+            keys[dynamicIndices[i]] = evaledLeafOutput;
+        }
+
+        traversr.set(output, keys, data);
     }
 
+    @SuppressWarnings("unchecked")
     public Optional<Object> read(Object data, WalkedPath walkedPath) {
-        List<String> evaledPaths = evaluate(walkedPath);
-        if (evaledPaths == null) {
-            return Optional.empty();
+
+        if (dynamicIndices.length == 0) {
+            return traversr.get(data, constantKeys);
+        }
+
+        // not a WalkedPath key buffer : a read can happen in the middle of a write, while a TransposePathElement
+        //  of the write path is being evaluated
+        String[] keys = constantKeys.clone();
+        for (int i = 0; i < dynamicIndices.length; i++) {
+            String evaledLeafOutput = dynamicElements[i].evaluate(walkedPath);
+            if (evaledLeafOutput == null) {
+                return Optional.empty();
+            }
+            keys[dynamicIndices[i]] = evaledLeafOutput;
         }
 
-        return traversr.get(data, evaledPaths);
+        return traversr.get(data, keys);
     }
 
     /**
@@ -133,6 +197,18 @@ public abstract class PathEvaluatingTraversal {
         return strings;
     }
 
+    /**
+     * @return true if evaluating this path can read a capture group of a MatchedElement up the WalkedPath
+     */
+    public boolean readsKeyGroups() {
+        for (EvaluatablePathElement element : elements) {
+            if (element.readsKeyGroups()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public int size() {
         return elements.size();
     }
@@ -109,6 +109,16 @@ public class AmpPathElement extends BasePathElement implements MatchablePathElem
         return tokens;
     }
 
+    @Override
+    public boolean readsKeyGroups() {
+        for (Object token : tokens) {
+            if (token instanceof AmpReference ref && ref.getKeyGroup() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public String evaluate(WalkedPath walkedPath) {
 
@@ -16,13 +16,14 @@
  */
 package io.joltcommunity.jolt.common.pathelement;
 
-import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.common.IndexKeys;
 import io.joltcommunity.jolt.common.reference.AmpReference;
 import io.joltcommunity.jolt.common.reference.HashReference;
 import io.joltcommunity.jolt.common.reference.PathAndGroupReference;
 import io.joltcommunity.jolt.common.reference.PathReference;
 import io.joltcommunity.jolt.common.tree.ArrayMatchedElement;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
+import io.joltcommunity.jolt.common.tree.PathStep;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
 
@@ -114,6 +115,12 @@ public class ArrayPathElement extends BasePathElement implements MatchablePathEl
         return canonicalForm;
     }
 
+    @Override
+    public boolean readsKeyGroups() {
+        return (ref instanceof PathAndGroupReference groupRef && groupRef.getKeyGroup() > 0)
+                || (transposePathElement != null && transposePathElement.readsKeyGroups());
+    }
+
     @Override
     public String evaluate(WalkedPath walkedPath) {
 
@@ -126,7 +133,7 @@ public class ArrayPathElement extends BasePathElement implements MatchablePathEl
 
             case HASH:
                 MatchedElement element = walkedPath.elementFromEnd(ref.getPathIndex()).getMatchedElement();
-                return Integer.toString(element.getHashCount());
+                return IndexKeys.toKey(element.getHashCount());
 
             case TRANSPOSE:
                 String key = transposePathElement.evaluate(walkedPath);
@@ -164,9 +171,9 @@ public class ArrayPathElement extends BasePathElement implements MatchablePathEl
     public MatchedElement match(String dataKey, WalkedPath walkedPath) {
         String evaled = evaluate(walkedPath);
         if (evaled.equals(dataKey)) {
-            Optional<Integer> origSizeOptional = walkedPath.lastElement().getOrigSize();
-            if (origSizeOptional.isPresent()) {
-                return new ArrayMatchedElement(evaled, origSizeOptional.get());
+            PathStep parent = walkedPath.lastElement();
+            if (parent.hasOrigSize()) {
+                return new ArrayMatchedElement(evaled, parent.getRawOrigSize());
             } else {
                 return null;
             }
@@ -52,6 +52,11 @@ public class DollarPathElement extends BasePathElement implements MatchablePathE
         return dRef.getCanonicalForm();
     }
 
+    @Override
+    public boolean readsKeyGroups() {
+        return dRef.getKeyGroup() > 0;
+    }
+
     @Override
     public String evaluate(WalkedPath walkedPath) {
         MatchedElement pe = walkedPath.elementFromEnd(dRef.getPathIndex()).getMatchedElement();
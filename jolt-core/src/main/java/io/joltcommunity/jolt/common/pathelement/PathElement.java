@@ -27,4 +27,16 @@ public interface PathElement {
      * @return canonical String version of this PathElement
      */
     String getCanonicalForm();
+
+    /**
+     * Whether evaluating or matching this PathElement can read a capture group (a sub key other than 0) of a
+     * MatchedElement up the WalkedPath, like "&(1,2)" or "$(0,1)" do.
+     * <p>
+     * Star matches only need to capture their groups if something below them in the spec reads them.
+     *
+     * @return true if this PathElement reads capture groups
+     */
+    default boolean readsKeyGroups() {
+        return false;
+    }
 }
@@ -16,9 +16,9 @@
  */
 package io.joltcommunity.jolt.common.pathelement;
 
-import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.tree.ArrayMatchedElement;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
+import io.joltcommunity.jolt.common.tree.PathStep;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
 
@@ -45,9 +45,9 @@ public class StarAllPathElement implements StarPathElement {
 
     @Override
     public MatchedElement match(String dataKey, WalkedPath walkedPath) {
-        Optional<Integer> origSizeOptional = walkedPath.lastElement().getOrigSize();
-        if (origSizeOptional.isPresent()) {
-            return new ArrayMatchedElement(dataKey, origSizeOptional.get());
+        PathStep parent = walkedPath.lastElement();
+        if (parent.hasOrigSize()) {
+            return new ArrayMatchedElement(dataKey, parent.getRawOrigSize());
         } else {
             return new MatchedElement(dataKey);
         }
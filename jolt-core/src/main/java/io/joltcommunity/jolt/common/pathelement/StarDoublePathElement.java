@@ -21,12 +21,9 @@ import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.utils.StringTools;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * PathElement for the a double "*" wildcard such as tag-*-*.   In this case we can avoid doing any
- * regex work by doing String begins, ends and mid element exists.
+ * regex work by doing String begins, ends and mid element exists, all in place in the key.
  */
 public class StarDoublePathElement extends BasePathElement implements StarPathElement {
 
@@ -72,24 +69,21 @@ public class StarDoublePathElement extends BasePathElement implements StarPathEl
      */
     @Override
     public boolean stringMatch(String literal) {
-        boolean isMatch = false;
-        if (literal.startsWith(prefix) && literal.endsWith(suffix)) {
-
-            isMatch = finMidIndex(literal) > 0;
-        }
-        return isMatch;
+        return findMidIndex(literal) > 0;
     }
 
     /**
      * The assumption here is: * means 1 or more characters. So, if we can find the mid 1 char after the prefix ends and 1 char before the suffix
      * starts, we have found a mid match. Also, it will be the first occurrence of the mid in the literal, so we are not 'greedy' to capture as much as
      * in the '*'
+     *
+     * @return the index of the mid in the literal, or -1 if the literal does not match
      */
-    private int finMidIndex(String literal) {
+    private int findMidIndex(String literal) {
         int startOffset = prefix.length() + 1;
         int endOffset = literal.length() - suffix.length() - 1;
 
-        /**
+        /*
          * Found a bug when there is only character after the prefix ends. For eg: if the spec is abc-*$* and the key
          * we got is abc-1
          *      prefix -> abc-
@@ -97,40 +91,35 @@ public class StarDoublePathElement extends BasePathElement implements StarPathEl
          *      mid    -> $
          *      startoffset -> 5
          *      endoffset -> 5 - 0 - 1 = 4
-         *  We are left with no substring to search for the mid. Bail out!
+         *  We are left with no room to search for the mid. Bail out!
          */
-        if (startOffset >= endOffset) {
-
+        if (startOffset >= endOffset || !literal.startsWith(prefix) || !literal.endsWith(suffix)) {
             return -1;
-
         }
-        int midIndex = literal.substring(startOffset, endOffset).indexOf(mid);
 
-        if (midIndex >= 0) {
-
-            return midIndex + startOffset;
+        // search the region between the two stars in place; if the first occurrence of the mid
+        //  does not end before endOffset, no later one will either
+        int midIndex = literal.indexOf(mid, startOffset);
+        if (midIndex >= 0 && midIndex + mid.length() <= endOffset) {
+            return midIndex;
         }
         return -1;
     }
 
-
     @Override
     public MatchedElement match(String dataKey, WalkedPath walkedPath) {
-        if (stringMatch(dataKey)) {
-            List<String> subKeys = new ArrayList<>(2);
-
-            int midStart = finMidIndex(dataKey);
-            int midEnd = midStart + mid.length();
 
-            String firstStarPart = dataKey.substring(prefix.length(), midStart);
-            subKeys.add(firstStarPart);
-
-            String secondStarPart = dataKey.substring(midEnd, dataKey.length() - suffix.length());
-            subKeys.add(secondStarPart);
-
-            return new MatchedElement(dataKey, subKeys);
+        int midStart = findMidIndex(dataKey);
+        if (midStart < 0) {
+            return null;
         }
-        return null;
+
+        // the star parts are cut out of the dataKey only if something references them
+        int[] captureBounds = {
+                prefix.length(), midStart,
+                midStart + mid.length(), dataKey.length() - suffix.length()
+        };
+        return new MatchedElement(dataKey, captureBounds);
     }
 
     @Override
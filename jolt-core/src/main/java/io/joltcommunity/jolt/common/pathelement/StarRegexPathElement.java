@@ -19,97 +19,85 @@ package io.joltcommunity.jolt.common.pathelement;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
- * Non-greedy * based Path Element.
+ * Non-greedy * based Path Element, for keys with any number of "*" wildcards such as tag-*-*_*.
+ * <p>
+ * These keys used to be compiled into a "^tag-(.+?)-(.+?)_(.+?)$" regex.  As the key is only literal segments
+ * separated by stars, it is matched without java.util.regex instead : the prefix and suffix are checked in
+ * place, and each middle segment is found with an indexOf scan starting one character past the end of the
+ * previous one, as every "*" must match something.
+ * <p>
+ * Placing each segment as early as it can go never rules out a match that a later placement would allow, so
+ * a single left to right pass with no backtracking finds a match whenever there is one, and it is the same
+ * match the reluctant regex found : each "*" captures as little as it can, with the last one taking the rest.
+ * The captures are handed to the MatchedElement as offsets, and only cut out of the key if they are referenced.
+ * Unlike that regex, and like the other star elements, a "*" also matches line terminators.
  */
 public class StarRegexPathElement extends BasePathElement implements StarPathElement {
 
-    private final Pattern pattern;
+    // the literal text around the stars, so segments.length is the number of stars + 1, and
+    //  segments[0] is the prefix and segments[segments.length - 1] is the suffix, either of which may be empty
+    private final String[] segments;
+    private final String prefix, suffix;
+
+    // the shortest key that can match : all the literal text, and one character per star
+    private final int minLength;
 
     public StarRegexPathElement(String key) {
         super(key);
 
-        pattern = makePattern(key);
-    }
-
-
-    private static Pattern makePattern(String key) {
-
-        // "rating-*-*"  ->  "^rating-(.+?)-(.+?)$"   aka the '*' must match something in a non-greedy way
-        key = escapeMetacharsIfAny(key);
-        String regex = "^" + key.replace("*", "(.+?)") + "$";
-
-        /*
-            wtf does "(.+?)" mean
-            .  : match any character
-            +  : match one or more of the previous thing
-            ?  : match zero of one of the previous thing
-            +? : reluctantly match
+        segments = key.split("\\*", -1);
+        prefix = segments[0];
+        suffix = segments[segments.length - 1];
 
-            See http://docs.oracle.com/javase/tutorial/essential/regex/quant.html
-              Differences Among Greedy, Reluctant, and Possessive Quantifiers section
-        */
-
-        return Pattern.compile(regex);
+        int literalLength = 0;
+        for (String segment : segments) {
+            literalLength += segment.length();
+        }
+        minLength = literalLength + segments.length - 1;
     }
 
-    // Metachars to escape .^$|*+?()[{\ in a regex
-
     /**
-     * +
+     * Finds where each "*" starts and ends in the literal.
      *
-     * @param key : String key that needs to be escaped before compiling into regex.
-     * @return : Metachar escaped key.
-     * <p>
-     * Regex has some special meaning for the metachars [ .^$|*+?()[{\ ].If any of these metachars is present in the pattern key that was passed, it needs to be escaped so that
-     * it can be matched against literal.
+     * @param bounds if not null, receives the start and end offsets of each "*" capture
+     * @return true if the literal matches
      */
-    private static String escapeMetacharsIfAny(String key) {
-
-        char[] keyChars = key.toCharArray();
-
-        // String.replace replaces all instances of the char sequence. So, it would try to escape the occurrence as many times as the occurrence frequency.
-        // For ex: if a key as 2 '5star.rating.1', it would escape it twice resulting in 5star//.rating//.1.
-        // So, we keep an list of already seen characters.
-
-        Set<Character> charsAlreadySeen = new HashSet<>();
+    private boolean findStars(String literal, int[] bounds) {
 
-        for (char keychar : keyChars) {
-
-            switch (keychar) {
-
-                case '(':
-                case '[':
-                case '{':
-                case '\\':
-                case '^':
-                case '$':
-                case '|':
-                case ')':
-                case '?':
-                case '+':
-                case '.':
+        int length = literal.length();
+        if (length < minLength || !literal.startsWith(prefix) || !literal.endsWith(suffix)) {
+            return false;
+        }
 
-                    if (!charsAlreadySeen.contains(keychar)) {
+        // the stars and middle segments all have to fit between the prefix and the suffix
+        int end = length - suffix.length();
+        int starStart = prefix.length();
 
-                        key = key.replace(String.valueOf(keychar), "\\" + keychar);
+        for (int i = 1; i < segments.length - 1; i++) {
+            String segment = segments[i];
 
-                        charsAlreadySeen.add(keychar);
-                    }
-                    break;
+            int segmentStart = literal.indexOf(segment, starStart + 1);
+            // leave room for at least one character for the star that follows this segment
+            if (segmentStart < 0 || segmentStart + segment.length() >= end) {
+                return false;
+            }
 
-                default:
-                    break;
+            if (bounds != null) {
+                bounds[2 * i - 2] = starStart;
+                bounds[2 * i - 1] = segmentStart;
             }
+            starStart = segmentStart + segment.length();
+        }
+
+        if (end - starStart < 1) {
+            return false;
         }
-        return key;
+        if (bounds != null) {
+            bounds[bounds.length - 2] = starStart;
+            bounds[bounds.length - 1] = end;
+        }
+        return true;
     }
 
     /**
@@ -118,28 +106,19 @@ public class StarRegexPathElement extends BasePathElement implements StarPathEle
      */
     @Override
     public boolean stringMatch(String literal) {
-
-        Matcher matcher = pattern.matcher(literal);
-
-        return matcher.find();
+        return findStars(literal, null);
     }
 
     @Override
     public MatchedElement match(String dataKey, WalkedPath walkedPath) {
 
-        Matcher matcher = pattern.matcher(dataKey);
-        if (!matcher.find()) {
+        int starCount = segments.length - 1;
+        int[] bounds = new int[2 * starCount];
+        if (!findStars(dataKey, bounds)) {
             return null;
         }
 
-        int groupCount = matcher.groupCount();
-
-        List<String> subKeys = new ArrayList<>(groupCount);
-        for (int index = 1; index <= groupCount; index++) {
-            subKeys.add(matcher.group(index));
-        }
-
-        return new MatchedElement(dataKey, subKeys);
+        return new MatchedElement(dataKey, bounds);
     }
 
     @Override
@@ -21,9 +21,6 @@ import io.joltcommunity.jolt.common.tree.WalkedPath;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.utils.StringTools;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * PathElement for the a single "*" wildcard such as tag-*.   In this case we can avoid doing any
  * regex work by doing String begins and ends with comparisons.
@@ -60,20 +57,16 @@ public class StarSinglePathElement extends BasePathElement implements StarPathEl
      */
     @Override
     public boolean stringMatch(String literal) {
-        return literal.startsWith(prefix) && literal.endsWith(suffix)  // the ends match
-                && literal.length() > prefix.length() + suffix.length();   // and the * captures something
+        return literal.length() > prefix.length() + suffix.length()   // the * captures something
+                && literal.startsWith(prefix) && literal.endsWith(suffix);  // and the ends match
     }
 
     @Override
     public MatchedElement match(String dataKey, WalkedPath walkedPath) {
 
         if (stringMatch(dataKey)) {
-            List<String> subKeys = new ArrayList<>(1);
-
-            String starPart = dataKey.substring(prefix.length(), dataKey.length() - suffix.length());
-            subKeys.add(starPart);
-
-            return new MatchedElement(dataKey, subKeys);
+            // the star part is cut out of the dataKey only if something references it
+            return new MatchedElement(dataKey, new int[]{prefix.length(), dataKey.length() - suffix.length()});
         }
 
         return null;
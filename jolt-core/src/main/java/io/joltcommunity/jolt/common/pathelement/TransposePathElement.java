@@ -237,6 +237,11 @@ public class TransposePathElement extends BasePathElement implements MatchablePa
         }
     }
 
+    @Override
+    public boolean readsKeyGroups() {
+        return subPathReader != null && subPathReader.readsKeyGroups();
+    }
+
     public MatchedElement match(String dataKey, WalkedPath walkedPath) {
         return walkedPath.lastElement().getMatchedElement();  // copy what our parent was so that write keys of &0 and &1 both work.
     }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.common.spec;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable lookup table over the literal children of a composite spec, built once at spec construction.
+ * <p>
+ * The children keep their spec order, so they can be walked by index, and {@link #indexOf(String)} maps an
+ * input key back to that index by probing an open addressing table.  The table is grown, within a bound, until
+ * no two literal keys share a slot (a perfect hash for the spec at hand), so for all but the widest specs a
+ * lookup is a hash, an int compare and one String.equals.  Wider specs fall back to linear probing in a table
+ * that is at most a quarter full.
+ * <p>
+ * The keys are also parsed as list indices up front, so walking a list never has to parse a spec key.
+ *
+ * @param <T> the type of the literal child specs
+ */
+public final class LiteralTable<T> {
+
+    // how far past its minimum capacity the table may grow, looking for a collision free layout
+    private static final int MAX_GROWTH = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+    // keys as list indices, or -1 for keys that can never match a list index
+    private final int[] indices;
+
+    // index into keys + 1, so that the zero filled array means "no key here"
+    private final int[] slots;
+    private final int shift;
+
+    public LiteralTable(Map<String, ? extends T> literals) {
+        int size = literals.size();
+        keys = new String[size];
+        values = new Object[size];
+        hashes = new int[size];
+        indices = new int[size];
+
+        int i = 0;
+        for (Map.Entry<String, ? extends T> entry : literals.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            hashes[i] = entry.getKey().hashCode();
+            indices[i] = toIndex(entry.getKey());
+            i++;
+        }
+
+        int minCapacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        int capacity = minCapacity;
+        int[] table = fill(capacity, false);
+        while (table == null && capacity < minCapacity * MAX_GROWTH) {
+            capacity <<= 1;
+            table = fill(capacity, false);
+        }
+        if (table == null) {
+            capacity = minCapacity << 1;
+            table = fill(capacity, true);
+        }
+
+        slots = table;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    private static int toIndex(String key) {
+        try {
+            return Math.max(Integer.parseInt(key), -1);
+        } catch (NumberFormatException nfe) {
+            // If the data is an Array, but the spec keys are Non-Integer Strings,
+            //  we are annoyed, but we don't stop the whole transform.
+            // Just this part of the Transform won't work.
+            return -1;
+        }
+    }
+
+    /**
+     * @return the slot table, or null if probing was not allowed and two keys collided
+     */
+    private int[] fill(int capacity, boolean probe) {
+        int[] table = new int[capacity];
+        int tableShift = Integer.numberOfLeadingZeros(capacity) + 1;
+        int tableMask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = slot(hashes[i], tableShift);
+            while (table[slot] != 0) {
+                if (!probe) {
+                    return null;
+                }
+                slot = (slot + 1) & tableMask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    /**
+     * Fibonacci hashing : literal keys tend to be runs like "key1", "key2", ... whose String hashes are
+     * consecutive, so take the high bits of a multiplicative hash rather than the low bits of the hash itself.
+     */
+    private static int slot(int hash, int shift) {
+        return (hash * 0x9E3779B9) >>> shift;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    public String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * @return the key at the given index parsed as a list index, or -1 if it can not match one
+     */
+    public int getListIndex(int index) {
+        return indices[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getValue(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * @return the spec order index of the literal child with the given key, or -1 if there is none, as for a
+     * null key, which input maps may have but spec keys never do
+     */
+    public int indexOf(String key) {
+        if (key == null) {
+            return -1;
+        }
+        int hash = key.hashCode();
+        int mask = slots.length - 1;
+        int slot = slot(hash, shift);
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            int index = entry - 1;
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the literal child with the given key, or null if there is none
+     */
+    public T get(String key) {
+        int index = indexOf(key);
+        return index < 0 ? null : getValue(index);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(keys);
+    }
+}
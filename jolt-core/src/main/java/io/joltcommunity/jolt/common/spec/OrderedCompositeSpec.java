@@ -36,6 +36,14 @@ public interface OrderedCompositeSpec extends BaseSpec {
 
     Map<String, ? extends BaseSpec> getLiteralChildren();
 
+    /**
+     * Called for every composite node of every transform, so implementations should build the table once, at
+     * construction, from their literal children.
+     *
+     * @return the literal children in the same order as {@link #getLiteralChildren()}, indexed for single probe lookups
+     */
+    LiteralTable<? extends BaseSpec> getLiteralTable();
+
     List<? extends BaseSpec> getComputedChildren();
 
     ExecutionStrategy determineExecutionStrategy();
@@ -19,8 +19,6 @@ package io.joltcommunity.jolt.common.tree;
 import io.joltcommunity.jolt.common.pathelement.BasePathElement;
 import io.joltcommunity.jolt.common.pathelement.EvaluatablePathElement;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,20 +28,26 @@ import java.util.List;
  * <p>
  * This mutability was specifically added for the HashCount functionality, which allows Shiftr
  * to transform data form maps to lists.
+ * <p>
+ * Star matches can hand over where their captures are in the key, rather than the captures themselves,
+ * in which case the sub key Strings are only cut out of the key when a reference actually reads them.
  */
 public class MatchedElement extends BasePathElement implements EvaluatablePathElement {
 
-    private final List<String> subKeys;
+    // sub key 0 is always the full key; a null entry is a capture that has not been read yet
+    //  null for a plain match, which has no sub keys other than the full key
+    private final String[] subKeys;
+
+    // start and end offsets in the key of each capture, or null if the captures were given as Strings
+    private final int[] captureBounds;
 
     private int hashCount = 0;
 
     public MatchedElement(String key) {
         super(key);
 
-        List<String> keys = new ArrayList<>(1);
-        keys.add(key); // always add the full key to index 0
-
-        this.subKeys = Collections.unmodifiableList(keys);
+        this.subKeys = null;
+        this.captureBounds = null;
     }
 
     public MatchedElement(String key, List<String> subKeys) {
@@ -53,11 +57,27 @@ public class MatchedElement extends BasePathElement implements EvaluatablePathEl
             throw new IllegalArgumentException("MatchedElement for key:" + key + " got null list of subKeys");
         }
 
-        List<String> keys = new ArrayList<>(1 + subKeys.size());
-        keys.add(key); // always add the full key to index 0
-        keys.addAll(subKeys);
+        this.subKeys = new String[1 + subKeys.size()];
+        this.subKeys[0] = key; // always add the full key to index 0
+        for (int i = 0; i < subKeys.size(); i++) {
+            this.subKeys[i + 1] = subKeys.get(i);
+        }
+        this.captureBounds = null;
+    }
 
-        this.subKeys = Collections.unmodifiableList(keys);
+    /**
+     * @param captureBounds the start (inclusive) and end (exclusive) offsets in the key of each capture, in order
+     */
+    public MatchedElement(String key, int[] captureBounds) {
+        super(key);
+
+        if (captureBounds == null || captureBounds.length % 2 != 0) {
+            throw new IllegalArgumentException("MatchedElement for key:" + key + " needs a start and an end offset for each capture");
+        }
+
+        this.subKeys = new String[1 + captureBounds.length / 2];
+        this.subKeys[0] = key; // always add the full key to index 0
+        this.captureBounds = captureBounds;
     }
 
     @Override
@@ -71,14 +91,23 @@ public class MatchedElement extends BasePathElement implements EvaluatablePathEl
     }
 
     public String getSubKeyRef(int index) {
-        if ((index < 0) || (index >= this.subKeys.size())) {
-            throw new IndexOutOfBoundsException("MatchedElement " + this.subKeys + " cannot be indexed with index " + index);
+        if ((index < 0) || (index >= getSubKeyCount())) {
+            throw new IndexOutOfBoundsException("MatchedElement for key:" + getRawKey() + " has " + getSubKeyCount() + " subKeys, and cannot be indexed with index " + index);
+        }
+        if (subKeys == null) {
+            return getRawKey();
+        }
+
+        String subKey = subKeys[index];
+        if (subKey == null) {
+            subKey = getRawKey().substring(captureBounds[2 * index - 2], captureBounds[2 * index - 1]);
+            subKeys[index] = subKey;
         }
-        return subKeys.get(index);
+        return subKey;
     }
 
     public int getSubKeyCount() {
-        return subKeys.size();
+        return subKeys == null ? 1 : subKeys.length;
     }
 
     public int getHashCount() {
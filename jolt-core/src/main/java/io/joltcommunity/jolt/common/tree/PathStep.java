@@ -22,20 +22,30 @@ import io.joltcommunity.jolt.common.Optional;
  * A tuple class that contains the data for one level of a
  * tree walk, aka a reference to the input for that level, and
  * the LiteralPathElement that was matched at that level.
+ * <p>
+ * PathSteps handed out by a WalkedPath are its reusable frames : once the level they describe
+ * is removed from the WalkedPath, the frame is cleared and recycled for the next level that gets
+ * added at that depth.  Do not hold on to them.
  */
 public final class PathStep {
 
-    private final Object treeRef;
-    private final MatchedElement matchedElement;
-    private final Optional<Integer> origSize;
+    private static final int NO_ORIG_SIZE = -1;
+
+    private Object treeRef;
+    private MatchedElement matchedElement;
+    private int origSize;
 
     public PathStep(Object treeRef, MatchedElement matchedElement) {
+        set(treeRef, matchedElement);
+    }
+
+    void set(Object treeRef, MatchedElement matchedElement) {
         this.treeRef = treeRef;
         this.matchedElement = matchedElement;
         if (matchedElement instanceof ArrayMatchedElement) {
-            origSize = Optional.of(((ArrayMatchedElement) matchedElement).getOrigSize());
+            origSize = ((ArrayMatchedElement) matchedElement).getOrigSize();
         } else {
-            origSize = Optional.empty();
+            origSize = NO_ORIG_SIZE;
         }
     }
 
@@ -48,6 +58,20 @@ public final class PathStep {
     }
 
     public Optional<Integer> getOrigSize() {
+        return hasOrigSize() ? Optional.of(origSize) : Optional.empty();
+    }
+
+    /**
+     * @return true if this level was matched in a List, in which case its original size is known
+     */
+    public boolean hasOrigSize() {
+        return origSize != NO_ORIG_SIZE;
+    }
+
+    /**
+     * Allocation free version of {@link #getOrigSize()}, only meaningful if {@link #hasOrigSize()}.
+     */
+    public int getRawOrigSize() {
         return origSize;
     }
 }
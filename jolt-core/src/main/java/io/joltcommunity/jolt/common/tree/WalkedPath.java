@@ -16,7 +16,8 @@
  */
 package io.joltcommunity.jolt.common.tree;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -32,44 +33,170 @@ import java.util.Collection;
  * <p>
  * It is expected that as the SpecTransform navigates down the tree, MatchedElements will be added and then
  * removed when that subtree has been walked.
+ * <p>
+ * The stack is an array of mutable PathStep frames that are reused as levels are added and removed,
+ * so walking a document does not allocate a PathStep per visited node.  WalkedPath is still a List of
+ * its levels, but a read-only one apart from add, and removing the last level :
+ * <ul>
+ *   <li>the PathSteps returned by get, lastElement, elementFromEnd and the List views are frames, that are
+ *   only valid while their level is on the path; once it is removed the frame is cleared and reused, so
+ *   copy their data to keep it</li>
+ *   <li>removeLastElement returns a detached copy of the removed level, as it always has; the walk itself
+ *   uses {@link #dropLastElement()}, which does not allocate</li>
+ * </ul>
  */
-public class WalkedPath extends ArrayList<PathStep> {
+public class WalkedPath extends AbstractList<PathStep> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private PathStep[] frames;
+    private int size;
+
+    // scratch arrays for evaluated output paths, by path length
+    private String[][] keyBuffers = new String[0][];
 
     public WalkedPath() {
-        super();
+        frames = new PathStep[DEFAULT_CAPACITY];
     }
 
     public WalkedPath(Collection<PathStep> c) {
-        super(c);
+        frames = new PathStep[Math.max(DEFAULT_CAPACITY, c.size())];
+        for (PathStep pathStep : c) {
+            add(pathStep);
+        }
     }
 
     public WalkedPath(Object treeRef, MatchedElement matchedElement) {
-        super();
-        this.add(new PathStep(treeRef, matchedElement));
+        this();
+        this.add(treeRef, matchedElement);
+    }
+
+    /**
+     * Adds a level, copying the data of the given PathStep into one of our frames.
+     */
+    @Override
+    public boolean add(PathStep pathStep) {
+        return add(pathStep.getTreeRef(), pathStep.getMatchedElement());
     }
 
     /**
      * Convenience method
      */
     public boolean add(Object treeRef, MatchedElement matchedElement) {
-        return super.add(new PathStep(treeRef, matchedElement));
+        if (size == frames.length) {
+            PathStep[] grown = new PathStep[size * 2];
+            System.arraycopy(frames, 0, grown, 0, size);
+            frames = grown;
+        }
+
+        PathStep frame = frames[size];
+        if (frame == null) {
+            frames[size] = new PathStep(treeRef, matchedElement);
+        } else {
+            frame.set(treeRef, matchedElement);
+        }
+        size++;
+        modCount++;
+        return true;
     }
 
+    /**
+     * @return a copy of the removed level
+     */
     public PathStep removeLastElement() {
-        return remove(size() - 1);
+        PathStep last = lastElement();
+        PathStep removed = new PathStep(last.getTreeRef(), last.getMatchedElement());
+        dropLastElement();
+        return removed;
+    }
+
+    /**
+     * Removes the last level, without handing it back.  Its frame is cleared, so that the WalkedPath
+     * does not keep the input it pointed to reachable.
+     */
+    public void dropLastElement() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("WalkedPath is empty");
+        }
+        frames[--size].set(null, null);
+        modCount++;
+    }
+
+    /**
+     * Only the last level can be removed.
+     */
+    @Override
+    public PathStep remove(int index) {
+        if (index != size - 1) {
+            throw new UnsupportedOperationException("WalkedPath can only remove its last level");
+        }
+        return removeLastElement();
+    }
+
+    @Override
+    public void clear() {
+        while (size > 0) {
+            dropLastElement();
+        }
     }
 
     /**
      * Method useful to "&", "&1", "&2", etc evaluation.
+     * <p>
+     * The returned PathStep is only valid while its level is on the path, see the class doc.
      */
     public PathStep elementFromEnd(int idxFromEnd) {
-        if (isEmpty()) {
+        if (size == 0) {
             return null;
         }
-        return get(size() - 1 - idxFromEnd);
+        return get(size - 1 - idxFromEnd);
     }
 
+    /**
+     * @return the current level, only valid while it is on the path, see the class doc
+     */
     public PathStep lastElement() {
-        return get(size() - 1);
+        return get(size - 1);
+    }
+
+    /**
+     * @return the level at index, only valid while it is on the path, see the class doc
+     */
+    @Override
+    public PathStep get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for WalkedPath of size " + size);
+        }
+        return frames[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Scratch space for evaluating an output path during this walk, so that writes do not allocate a key
+     * array each.  The same array is handed out for every request of the same length, so its contents are
+     * only good until the next call.
+     *
+     * @param length number of keys in the path
+     * @return an array of exactly that length, with unspecified contents
+     */
+    public String[] keyBuffer(int length) {
+        if (length >= keyBuffers.length) {
+            keyBuffers = Arrays.copyOf(keyBuffers, length + 1);
+        }
+        String[] buffer = keyBuffers[length];
+        if (buffer == null) {
+            buffer = new String[length];
+            keyBuffers[length] = buffer;
+        }
+        return buffer;
     }
 }
@@ -18,11 +18,11 @@ package io.joltcommunity.jolt.defaultr;
 
 import io.joltcommunity.jolt.common.DeepCopy;
 
-import java.util.*;
+import java.util.List;
 
 public class ArrayKey extends Key {
 
-    private final Collection<Integer> keyInts;
+    private final int[] keyInts;
     private int keyInt = -1;
 
     public ArrayKey(String jsonKey, Object spec) {
@@ -31,18 +31,17 @@ public class ArrayKey extends Key {
         // Handle ArrayKey specific stuff
         switch (getOp()) {
             case OR:
-                keyInts = new ArrayList<>();
-                for (String orLiteral : keyStrings) {
-                    int orInt = Integer.parseInt(orLiteral);
-                    keyInts.add(orInt);
+                keyInts = new int[keyStrings.size()];
+                for (int index = 0; index < keyInts.length; index++) {
+                    keyInts[index] = Integer.parseInt(keyStrings.get(index));
                 }
                 break;
             case LITERAL:
                 keyInt = Integer.parseInt(rawKey);
-                keyInts = List.of(keyInt);
+                keyInts = new int[]{keyInt};
                 break;
             case STAR:
-                keyInts = Collections.emptyList();
+                keyInts = new int[0];
                 break;
             default:
                 throw new IllegalStateException("Someone has added an op type without changing this method.");
@@ -61,16 +60,36 @@ public class ArrayKey extends Key {
             @SuppressWarnings("unchecked")
             List<Object> defaultList = (List<Object>) container;
 
-            // Find all defaultee keys that match the childKey spec.  Simple for Literal keys, more work for * and |.
-            for (Integer literalKey : determineMatchingContainerKeys(defaultList)) {
-                applyLiteralKeyToContainer(literalKey, defaultList);
+            // Apply to all defaultee keys that match the childKey spec.  Simple for Literal keys, more work for * and |.
+            switch (getOp()) {
+                case LITERAL:
+                    // the container should get this literal value added to it
+                    applyLiteralKeyToContainer(keyInt, defaultList);
+                    break;
+                case STAR:
+                    // all its indexes
+                    // this assumes the container list has already been expanded to the right size
+                    for (int index = 0; index < defaultList.size(); index++) {
+                        applyLiteralKeyToContainer(index, defaultList);
+                    }
+                    break;
+                case OR:
+                    // the intersection between the container "keys" and the OR values
+                    for (int orValue : keyInts) {
+                        if (orValue < defaultList.size()) {
+                            applyLiteralKeyToContainer(orValue, defaultList);
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Someone has added an op type without changing this method.");
             }
         }
         // Else there is disagreement (with respect to Array vs Map) between the data in
         //  the Container vs the Defaultr Spec type for this key.  Container wins, so do nothing.
     }
 
-    private void applyLiteralKeyToContainer(Integer literalIndex, List<Object> container) {
+    private void applyLiteralKeyToContainer(int literalIndex, List<Object> container) {
 
         Object defaulteeValue = container.get(literalIndex);
 
@@ -88,34 +107,4 @@ public class ArrayKey extends Key {
             applyChildren(defaulteeValue);
         }
     }
-
-    private Collection<Integer> determineMatchingContainerKeys(List<Object> container) {
-
-        switch (getOp()) {
-            case LITERAL:
-                // Container it should get these literal values added to it
-                return keyInts;
-            case STAR:
-                // Identify all its keys
-                // this assumes the container list has already been expanded to the right size
-                List<Integer> allIndexes = new ArrayList<>(container.size());
-                for (int index = 0; index < container.size(); index++) {
-                    allIndexes.add(index);
-                }
-
-                return allIndexes;
-            case OR:
-                // Identify the intersection between the container "keys" and the OR values
-                List<Integer> indexesInRange = new ArrayList<>();
-
-                for (Integer orValue : keyInts) {
-                    if (orValue < ((List<?>) container).size()) {
-                        indexesInRange.add(orValue);
-                    }
-                }
-                return indexesInRange;
-            default:
-                throw new IllegalStateException("Someone has added an op type without changing this method.");
-        }
-    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.defaultr;
+
+import io.joltcommunity.jolt.common.DeepCopy;
+import io.joltcommunity.jolt.common.Optional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Defaultr Key compiled for specs that have only literal keys.
+ * <p>
+ * Without "*" or "|" keys, applying a spec is a deep merge of a constant tree of defaults into the
+ * defaultee, where the defaults only go where the defaultee has nothing.  So each missing subtree is
+ * worked out once, here, by applying the Keys to an empty container, and then is just copied into place.
+ * The defaultee is only walked where it already has data the spec reaches into.
+ * <p>
+ * The copies are needed because the defaultee, and thus whatever gets merged into it, belongs to the caller,
+ * who may change it later.  Immutable scalar defaults are shared rather than copied, see {@link DeepCopy}.
+ * <p>
+ * Output is identical to what {@link Key#applyChildren(Object)} produces for the same Key.
+ */
+public final class DefaultTemplate {
+
+    // Am I the parent of an array?  Then my children are indexes and the defaultee should be a List, else a Map.
+    private final boolean arrayOutput;
+    private final int outputArraySize;
+
+    // per child, in the order the Key applies them
+    private final String[] keys;
+    private final int[] indexes;
+    // what to copy in when the defaultee has nothing there : the literal default, or the defaulted subtree
+    private final Object[] defaults;
+    // how to merge into a subtree the defaultee does have, null for literal default values
+    private final DefaultTemplate[] subTemplates;
+
+    private DefaultTemplate(Key key) {
+        arrayOutput = key.isArrayOutput();
+        outputArraySize = key.getOutputArraySize();
+
+        Key[] children = key.getLiteralChildren();
+        keys = new String[children.length];
+        indexes = new int[children.length];
+        defaults = new Object[children.length];
+        subTemplates = new DefaultTemplate[children.length];
+
+        for (int i = 0; i < children.length; i++) {
+            Key childKey = children[i];
+            if (arrayOutput) {
+                indexes[i] = childKey.getLiteralIntKey();
+            } else {
+                keys[i] = childKey.getRawKey();
+            }
+
+            if (childKey.isLeaf()) {
+                defaults[i] = childKey.getLiteralValue();
+            } else {
+                // what the Key would build when the defaultee has nothing here
+                Object subtree = childKey.createOutputContainerObject();
+                childKey.applyChildren(subtree);
+                defaults[i] = subtree;
+                subTemplates[i] = new DefaultTemplate(childKey);
+            }
+        }
+    }
+
+    /**
+     * @return the compiled Key, or empty if there are "*" or "|" keys in the spec below it
+     */
+    public static Optional<DefaultTemplate> compile(Key key) {
+        if (key == null || !key.isLiteralOnly()) {
+            return Optional.empty();
+        }
+        return Optional.of(new DefaultTemplate(key));
+    }
+
+    /**
+     * Same as {@link Key#applyChildren(Object)}.
+     */
+    public void apply(Object defaultee) {
+
+        if (arrayOutput) {
+            if (defaultee instanceof List) {
+                @SuppressWarnings("unchecked")
+                List<Object> defaultList = (List<Object>) defaultee;
+                applyToList(defaultList);
+            }
+        } else if (defaultee instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> defaultMap = (Map<String, Object>) defaultee;
+            applyToMap(defaultMap);
+        }
+        // Else there is disagreement (with respect to Array vs Map) between the data in
+        //  the defaultee vs the Defaultr Spec type for this key.  Defaultee wins, so do nothing.
+    }
+
+    private void applyToMap(Map<String, Object> defaultMap) {
+        for (int i = 0; i < keys.length; i++) {
+            Object defaulteeValue = defaultMap.get(keys[i]);
+            if (defaulteeValue == null) {
+                defaultMap.put(keys[i], DeepCopy.simpleDeepCopy(defaults[i]));
+            } else if (subTemplates[i] != null) {
+                subTemplates[i].apply(defaulteeValue);
+            }
+        }
+    }
+
+    private void applyToList(List<Object> defaultList) {
+
+        // Extend the defaultee list if needed
+        for (int index = defaultList.size() - 1; index < outputArraySize; index++) {
+            defaultList.add(null);
+        }
+
+        for (int i = 0; i < indexes.length; i++) {
+            Object defaulteeValue = defaultList.get(indexes[i]);
+            if (defaulteeValue == null) {
+                defaultList.set(indexes[i], DeepCopy.simpleDeepCopy(defaults[i]));
+            } else if (subTemplates[i] != null) {
+                subTemplates[i].apply(defaulteeValue);
+            }
+        }
+    }
+}
@@ -27,7 +27,13 @@ public abstract class Key {
 
     private static final String OR_INPUT_REGEX = "\\" + Defaultr.WildCards.OR;
     private static final Key.KeyPrecedenceComparator keyComparator = new Key.KeyPrecedenceComparator();
+    private static final Key[] NO_KEYS = new Key[0];
     protected Set<Key> children = null;
+    // The children sorted by precedence once, here, rather than on every apply, and split by op :
+    //  applying literalChildren, then orChildren, then starChildren walks them in precedence order.
+    private Key[] literalChildren = NO_KEYS;
+    private Key[] orChildren = NO_KEYS;
+    private Key[] starChildren = NO_KEYS;
     protected Object literalValue = null;
     protected String rawKey;
     protected List<String> keyStrings;
@@ -66,6 +72,7 @@ public abstract class Key {
         // Spec is String -> Map   or   String -> Literal only
         if (spec instanceof Map) {
             children = processSpec(isArrayOutput(), (Map<String, Object>) spec);
+            partitionChildren();
 
             if (isArrayOutput()) {
                 // loop over children and find the max literal value
@@ -82,6 +89,28 @@ public abstract class Key {
         }
     }
 
+    private void partitionChildren() {
+
+        List<Key> sortedChildren = new ArrayList<>(children);
+        sortedChildren.sort(keyComparator);
+
+        List<Key> literals = new ArrayList<>();
+        List<Key> ors = new ArrayList<>();
+        List<Key> stars = new ArrayList<>();
+        for (Key childKey : sortedChildren) {
+            switch (childKey.getOp()) {
+                case LITERAL -> literals.add(childKey);
+                case OR -> ors.add(childKey);
+                case STAR -> stars.add(childKey);
+                default -> throw new IllegalStateException("Someone has added an op type without changing this method.");
+            }
+        }
+
+        literalChildren = literals.toArray(NO_KEYS);
+        orChildren = ors.toArray(NO_KEYS);
+        starChildren = stars.toArray(NO_KEYS);
+    }
+
     /**
      * Factory-ish method that recursively processes a Map<String, Object> into a Set<Key> objects.
      *
@@ -139,17 +168,51 @@ public abstract class Key {
             }
         }
 
-        // Find and sort the children DefaultrKeys by precedence: literals, |, then *
-        List<Key> sortedChildren = new ArrayList<>(children);
-        sortedChildren.sort(keyComparator);
-
-        for (Key childKey : sortedChildren) {
+        // Apply the children DefaultrKeys by precedence: literals, |, then *
+        for (Key childKey : literalChildren) {
+            childKey.applyChild(defaultee);
+        }
+        for (Key childKey : orChildren) {
+            childKey.applyChild(defaultee);
+        }
+        for (Key childKey : starChildren) {
             childKey.applyChild(defaultee);
         }
     }
 
     protected abstract int getLiteralIntKey();
 
+    /**
+     * @return true if neither this key, nor any key below it, is a "*" or "|" key
+     */
+    boolean isLiteralOnly() {
+        if (op != OPS.LITERAL || orChildren.length > 0 || starChildren.length > 0) {
+            return false;
+        }
+        for (Key childKey : literalChildren) {
+            if (!childKey.isLiteralOnly()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Key[] getLiteralChildren() {
+        return literalChildren;
+    }
+
+    boolean isLeaf() {
+        return children == null;
+    }
+
+    Object getLiteralValue() {
+        return literalValue;
+    }
+
+    String getRawKey() {
+        return rawKey;
+    }
+
     /**
      * Apply this Key to the defaultee.
      * <p>
@@ -161,11 +224,11 @@ public abstract class Key {
         return orCount;
     }
 
-    private boolean isArrayOutput() {
+    boolean isArrayOutput() {
         return isArrayOutput;
     }
 
-    private int getOutputArraySize() {
+    int getOutputArraySize() {
         return outputArraySize;
     }
 
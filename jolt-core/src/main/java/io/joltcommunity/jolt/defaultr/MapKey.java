@@ -18,10 +18,7 @@ package io.joltcommunity.jolt.defaultr;
 
 import io.joltcommunity.jolt.common.DeepCopy;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 public class MapKey extends Key {
 
@@ -40,9 +37,28 @@ public class MapKey extends Key {
         if (container instanceof Map) {
             Map<String, Object> defaulteeMap = (Map<String, Object>) container;
 
-            // Find all defaultee keys that match the childKey spec.  Simple for Literal keys, more work for * and |.
-            for (String literalKey : determineMatchingContainerKeys(defaulteeMap)) {
-                applyLiteralKeyToContainer(literalKey, defaulteeMap);
+            // Apply to all defaultee keys that match the childKey spec.  Simple for Literal keys, more work for * and |.
+            switch (getOp()) {
+                case LITERAL:
+                    // the container should get this literal value added to it
+                    applyLiteralKeyToContainer(rawKey, defaulteeMap);
+                    break;
+                case STAR:
+                    // all its keys
+                    for (String literalKey : defaulteeMap.keySet()) {
+                        applyLiteralKeyToContainer(literalKey, defaulteeMap);
+                    }
+                    break;
+                case OR:
+                    // the intersection between its keys and the OR values
+                    for (String literalKey : keyStrings) {
+                        if (defaulteeMap.containsKey(literalKey)) {
+                            applyLiteralKeyToContainer(literalKey, defaulteeMap);
+                        }
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Someone has added an op type without changing this method.");
             }
         }
         // Else there is disagreement (with respect to Array vs Map) between the data in
@@ -67,23 +83,4 @@ public class MapKey extends Key {
             applyChildren(defaulteeValue);
         }
     }
-
-    private Collection<String> determineMatchingContainerKeys(Map<String, Object> container) {
-
-        switch (getOp()) {
-            case LITERAL:
-                // the container should get these literal values added to it
-                return keyStrings;
-            case STAR:
-                // Identify all its keys
-                return container.keySet();
-            case OR:
-                // Identify the intersection between its keys and the OR values
-                Set<String> intersection = new HashSet<>(container.keySet());
-                intersection.retainAll(keyStrings);
-                return intersection;
-            default:
-                throw new IllegalStateException("Someone has added an op type without changing this method.");
-        }
-    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one step of a Chainr run.
+ */
+@Name("io.joltcommunity.jolt.ChainrStep")
+@Label("Jolt Chainr Step")
+@Category("Jolt")
+@Description("Execution of one transform of a Chainr")
+public final class ChainrStepEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(ChainrStepEvent.class);
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Step Index")
+    public int stepIndex;
+
+    @Label("Document Size")
+    @Description("Number of Maps, Lists and values in the output of the step")
+    public long documentSize;
+
+    /**
+     * @return true if a recording is currently interested in these events, so Chainr can skip creating them otherwise
+     */
+    public static boolean isTypeEnabled() {
+        return TYPE.isEnabled();
+    }
+}
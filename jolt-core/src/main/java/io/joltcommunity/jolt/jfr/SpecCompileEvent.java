@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.jfr;
+
+import io.joltcommunity.jolt.utils.JoltUtils;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering the parsing of a spec by one of the stock SpecDriven transforms.
+ */
+@Name("io.joltcommunity.jolt.SpecCompile")
+@Label("Jolt Spec Compile")
+@Category("Jolt")
+@Description("Construction of a SpecDriven transform from its spec")
+public final class SpecCompileEvent extends Event {
+
+    @Label("Transform Class")
+    public String transformClass;
+
+    @Label("Spec Size")
+    @Description("Number of Maps, Lists and values in the spec")
+    public long specSize;
+
+    /**
+     * @return a started event, to be handed to {@link #finish} once the transform is built
+     */
+    public static SpecCompileEvent start() {
+        SpecCompileEvent event = new SpecCompileEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event, only sizing the spec up if the event is actually going to be recorded.
+     */
+    public void finish(Class<?> transformClass, Object spec) {
+        end();
+        if (shouldCommit()) {
+            this.transformClass = transformClass.getName();
+            this.specSize = JoltUtils.countNodes(spec);
+            commit();
+        }
+    }
+}
@@ -17,7 +17,7 @@
 
 package io.joltcommunity.jolt.modifier;
 
-import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.common.tree.PathStep;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
 
 import java.util.ArrayList;
@@ -84,8 +84,8 @@ public abstract class DataType {
      */
     @SuppressWarnings("unchecked")
     public Object create(String keyOrIndex, WalkedPath walkedPath, OpMode opMode) {
-        Object parent = walkedPath.lastElement().getTreeRef();
-        Optional<Integer> origSizeOptional = walkedPath.lastElement().getOrigSize();
+        PathStep parentStep = walkedPath.lastElement();
+        Object parent = parentStep.getTreeRef();
         int index = -1;
         try {
             index = Integer.parseInt(keyOrIndex);
@@ -95,7 +95,7 @@ public abstract class DataType {
         if (parent instanceof Map && opMode.isApplicable((Map) parent, keyOrIndex)) {
             value = createValue();
             ((Map) parent).put(keyOrIndex, value);
-        } else if (parent instanceof List && opMode.isApplicable((List) parent, index, origSizeOptional.get())) {
+        } else if (parent instanceof List && opMode.isApplicable((List) parent, index, parentStep.getRawOrigSize())) {
             value = createValue();
             ((List) parent).set(index, value);
         }
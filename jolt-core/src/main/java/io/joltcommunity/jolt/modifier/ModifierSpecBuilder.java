@@ -18,7 +18,7 @@
 package io.joltcommunity.jolt.modifier;
 
 import io.joltcommunity.jolt.common.spec.SpecBuilder;
-import io.joltcommunity.jolt.modifier.function.Function;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 import io.joltcommunity.jolt.modifier.spec.ModifierCompositeSpec;
 import io.joltcommunity.jolt.modifier.spec.ModifierLeafSpec;
 import io.joltcommunity.jolt.modifier.spec.ModifierSpec;
@@ -32,12 +32,11 @@ public class ModifierSpecBuilder extends SpecBuilder<ModifierSpec> {
     public static final String FUNCTION = "=";
 
     private final OpMode opMode;
-    private final Map<String, Function> functionsMap;
+    private final FunctionRegistry functions;
 
-
-    public ModifierSpecBuilder(OpMode opMode, Map<String, Function> functionsMap) {
+    public ModifierSpecBuilder(OpMode opMode, FunctionRegistry functions) {
         this.opMode = opMode;
-        this.functionsMap = functionsMap;
+        this.functions = functions;
     }
 
     @Override
@@ -46,7 +45,7 @@ public class ModifierSpecBuilder extends SpecBuilder<ModifierSpec> {
         if (rhs instanceof Map && (!((Map<?, ?>) rhs).isEmpty())) {
             return new ModifierCompositeSpec(lhs, (Map) rhs, opMode, this);
         } else {
-            return new ModifierLeafSpec(lhs, rhs, opMode, functionsMap);
+            return new ModifierLeafSpec(lhs, rhs, opMode, functions);
         }
     }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.modifier.function;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread safe cache of values that are expensive to create from their key, like a compiled regex Pattern,
+ * for the functions whose args can vary per transform.
+ * <p>
+ * It holds up to maxSize values, give or take a few concurrent misses.  When it is full it is emptied, rather
+ * than tracking which value was used least recently, so that lookups never have to lock.  Values that fail
+ * to be created are not cached.
+ */
+final class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final java.util.function.Function<K, V> factory;
+    private final ConcurrentHashMap<K, V> values = new ConcurrentHashMap<>();
+
+    BoundedCache(int maxSize, java.util.function.Function<K, V> factory) {
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    V get(K key) {
+        V value = values.get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            if (values.size() >= maxSize) {
+                values.clear();
+            }
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.modifier.function;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * DateTimeFormatters and ZoneIds for the Dates functions, which would otherwise parse their pattern and
+ * zone args on every call.  Both are immutable and thread safe, so they are shared between all callers.
+ */
+final class DateTimeCache {
+
+    static final int MAX_SIZE = 256;
+
+    private static final BoundedCache<String, ZoneId> ZONES = new BoundedCache<>(MAX_SIZE, ZoneId::of);
+    private static final BoundedCache<String, DateTimeFormatter> FORMATTERS = new BoundedCache<>(MAX_SIZE, DateTimeFormatter::ofPattern);
+    private static final BoundedCache<ZonedPattern, DateTimeFormatter> ZONED_FORMATTERS = new BoundedCache<>(MAX_SIZE,
+            key -> formatter(key.pattern()).withZone(zone(key.zoneId())));
+
+    private record ZonedPattern(String pattern, String zoneId) {
+    }
+
+    private DateTimeCache() {
+    }
+
+    /**
+     * Same as ZoneId.of(zoneId).
+     */
+    static ZoneId zone(String zoneId) {
+        return ZONES.get(zoneId);
+    }
+
+    /**
+     * Same as DateTimeFormatter.ofPattern(pattern).
+     */
+    static DateTimeFormatter formatter(String pattern) {
+        return FORMATTERS.get(pattern);
+    }
+
+    /**
+     * Same as DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of(zoneId)).
+     */
+    static DateTimeFormatter formatter(String pattern, String zoneId) {
+        return ZONED_FORMATTERS.get(new ZonedPattern(pattern, zoneId));
+    }
+}
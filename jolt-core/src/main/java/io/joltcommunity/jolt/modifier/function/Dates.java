@@ -30,88 +30,198 @@ public class Dates {
     // Default to ISO8601 format at UTC timezone
     public static final String defaultDatePattern = "yyyy-MM-dd'T'HH:mm:ssX";
 
+    private static final String UTC = ZoneOffset.UTC.getId();
+
     public static final Function now = args -> now();
 
     public static final class now extends Function.ListFunction {
 
+        private final BoundFormatter formatter;
+
+        public now() {
+            this(null);
+        }
+
+        private now(BoundFormatter formatter) {
+            this.formatter = formatter;
+        }
+
         @Override
         protected Optional<Object> applyList(List<Object> input) {
             if (input.size() != 2) {
                 return Optional.empty();
             } else {
-                return now(input.get(0), input.get(1));
+                return now(input.get(0), input.get(1), formatter);
             }
         }
+
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            BoundFormatter bound = args.length == 2 ? BoundFormatter.bind(args, literal, 0, 1) : null;
+            return bound == null ? this : new now(bound);
+        }
     }
 
     @SuppressWarnings("unchecked")
     public static final class fromEpochMilli extends Function.BaseFunction<String> {
 
+        private final BoundFormatter formatter;
+
+        public fromEpochMilli() {
+            this(null);
+        }
+
+        private fromEpochMilli(BoundFormatter formatter) {
+            this.formatter = formatter;
+        }
+
         @Override
         protected Optional<Object> applyList(List<Object> input) {
             if (input.size() != 3) {
                 return Optional.empty();
             } else {
-                return (Optional) fromEpochMilli(input.get(0), input.get(1), input.get(2));
+                return (Optional) fromEpochMilli(input.get(0), input.get(1), input.get(2), formatter);
             }
         }
 
         @Override
         protected Optional<String> applySingle(Object arg) {
-            return fromEpochMilli(arg, defaultDatePattern, "UTC");
+            return fromEpochMilli(arg, defaultDatePattern, "UTC", null);
+        }
+
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            BoundFormatter bound = args.length == 3 ? BoundFormatter.bind(args, literal, 1, 2) : null;
+            return bound == null ? this : new fromEpochMilli(bound);
         }
     }
 
     public static final class toEpochMilli extends Function.ListFunction {
 
+        private final BoundFormatter formatter;
+
+        public toEpochMilli() {
+            this(null);
+        }
+
+        private toEpochMilli(BoundFormatter formatter) {
+            this.formatter = formatter;
+        }
+
         @Override
         protected Optional<Object> applyList(List<Object> input) {
             if (input.size() != 3) {
                 return Optional.empty();
             } else {
-                return toEpochMilli(input.get(0), input.get(1), input.get(2));
+                return toEpochMilli(input.get(0), input.get(1), input.get(2), formatter);
             }
         }
+
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            BoundFormatter bound = args.length == 3 ? BoundFormatter.bind(args, literal, 1, -1) : null;
+            return bound == null ? this : new toEpochMilli(bound);
+        }
     }
 
     public static final class formatDate extends Function.ListFunction {
 
+        private final BoundFormatter fromFormatter;
+        private final BoundFormatter toFormatter;
+
+        public formatDate() {
+            this(null, null);
+        }
+
+        private formatDate(BoundFormatter fromFormatter, BoundFormatter toFormatter) {
+            this.fromFormatter = fromFormatter;
+            this.toFormatter = toFormatter;
+        }
+
         @Override
         protected Optional<Object> applyList(List<Object> input) {
             if (input.size() == 3) {
-                return formatDate(input.get(0), input.get(1), input.get(2));
+                return formatDate(input.get(0), input.get(1), input.get(2), fromFormatter, toFormatter);
             } else if (input.size() == 4){
-                return formatDate(input.get(0), input.get(1), input.get(2), input.get(3));
+                return formatDate(input.get(0), input.get(1), input.get(2), input.get(3), fromFormatter, toFormatter);
             } else if (input.size() == 5){
-                return formatDate(input.get(0), input.get(1), input.get(2), input.get(3), input.get(4));
+                return formatDate(input.get(0), input.get(1), input.get(2), input.get(3), input.get(4), fromFormatter, toFormatter);
             } else  {
                 return Optional.empty();
             }
         }
+
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            if (args.length < 3 || args.length > 5) {
+                return this;
+            }
+            BoundFormatter from = BoundFormatter.bind(args, literal, 1, -1);
+            BoundFormatter to;
+            if (args.length == 3) {
+                // the zone defaults to UTC, which is a literal too
+                to = BoundFormatter.bind(new Object[]{args[2], UTC}, new boolean[]{literal[2], true}, 0, 1);
+            } else {
+                to = BoundFormatter.bind(args, literal, 2, args.length - 1);
+            }
+            return from == null && to == null ? this : new formatDate(from, to);
+        }
     }
 
     public static final class dateAdd extends Function.ListFunction {
 
+        private final BoundFormatter formatter;
+
+        public dateAdd() {
+            this(null);
+        }
+
+        private dateAdd(BoundFormatter formatter) {
+            this.formatter = formatter;
+        }
+
         @Override
         protected Optional<Object> applyList(List<Object> input) {
             if (input.size() != 4) {
                 return Optional.empty();
             } else {
-                return dateAdd(input.get(0), input.get(1), input.get(2), input.get(3));
+                return dateAdd(input.get(0), input.get(1), input.get(2), input.get(3), formatter);
             }
         }
+
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            BoundFormatter bound = args.length == 4 ? BoundFormatter.bind(args, literal, 1, -1) : null;
+            return bound == null ? this : new dateAdd(bound);
+        }
     }
 
     public static final class dateSubstract extends Function.ListFunction {
 
+        private final BoundFormatter formatter;
+
+        public dateSubstract() {
+            this(null);
+        }
+
+        private dateSubstract(BoundFormatter formatter) {
+            this.formatter = formatter;
+        }
+
         @Override
         protected Optional<Object> applyList(List<Object> input) {
             if (input.size() != 4) {
                 return Optional.empty();
             } else {
-                return dateSubstract(input.get(0), input.get(1), input.get(2), input.get(3));
+                return dateSubstract(input.get(0), input.get(1), input.get(2), input.get(3), formatter);
             }
         }
+
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            BoundFormatter bound = args.length == 4 ? BoundFormatter.bind(args, literal, 1, -1) : null;
+            return bound == null ? this : new dateSubstract(bound);
+        }
     }
 
     /**
@@ -125,14 +235,14 @@ public class Dates {
      * Returns the current time formatted with the provided pattern. If no pattern is provided,
      * it defaults to {@link Dates#defaultDatePattern} (ISO8601 format at UTC timezone)
      */
-    private static Optional<Object> now(Object pattern, Object zoneId) {
+    private static Optional<Object> now(Object pattern, Object zoneId, BoundFormatter bound) {
         if (!((pattern instanceof String patternStr)
                 && zoneId instanceof String zoneIdStr))
             return Optional.empty();
 
         try {
             Instant instant = Instant.now();
-            DateTimeFormatter formatter = createFormatterWithTimeZone(patternStr, zoneIdStr);
+            DateTimeFormatter formatter = BoundFormatter.resolve(bound, patternStr, zoneIdStr);
             return Optional.of(formatter.format(instant));
         } catch (Exception e) {
             return Optional.empty();
@@ -143,7 +253,7 @@ public class Dates {
      * Given a {@link java.lang.Number} representing an EPOCH in milliseconds and the pattern and time-zone in which
      * it has to be converted returns a String following that representation.
      */
-    private static Optional<String> fromEpochMilli(Object arg, Object format, Object zoneId) {
+    private static Optional<String> fromEpochMilli(Object arg, Object format, Object zoneId, BoundFormatter bound) {
         Optional<Long> optEpoch = castToLong(arg);
         if (arg == null
                 || !(format instanceof String sdfFormat)
@@ -154,7 +264,7 @@ public class Dates {
         Long epoch = optEpoch.get();
         try {
             Instant instant = Instant.ofEpochMilli(epoch);
-            DateTimeFormatter formatter = createFormatterWithTimeZone(sdfFormat, zoneIdStr);
+            DateTimeFormatter formatter = BoundFormatter.resolve(bound, sdfFormat, zoneIdStr);
             return Optional.of(formatter.format(instant));
         } catch (Exception e) {
             return Optional.empty();
@@ -166,14 +276,14 @@ public class Dates {
      * returns the EPOCH in milliseconds of that date. The pattern uses the same pattern in
      * {@link java.time.format.DateTimeFormatter}.
      */
-    private static Optional<Object> toEpochMilli(Object date, Object format, Object zoneId) {
+    private static Optional<Object> toEpochMilli(Object date, Object format, Object zoneId, BoundFormatter bound) {
         if (!((date instanceof String dateStr)
                 && (format instanceof String formatStr)
                 && (zoneId instanceof String zoneIdStr)))
             return Optional.empty();
 
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(formatStr);
+            DateTimeFormatter formatter = BoundFormatter.resolve(bound, formatStr, null);
             TemporalAccessor temporal = formatter.parse(dateStr);
             Instant instant = parseToInstant(temporal, zoneIdStr);
             return Optional.of(instant.toEpochMilli());
@@ -183,19 +293,21 @@ public class Dates {
     }
 
 
-    private static Optional<Object> formatDate(Object date, Object fromPattern, Object toPattern) {
-        String defaultZoneId = ZoneOffset.UTC.getId();
-        return formatDate(date, fromPattern, toPattern, defaultZoneId, defaultZoneId);
+    private static Optional<Object> formatDate(Object date, Object fromPattern, Object toPattern,
+                                               BoundFormatter fromBound, BoundFormatter toBound) {
+        return formatDate(date, fromPattern, toPattern, UTC, UTC, fromBound, toBound);
     }
 
-    private static Optional<Object> formatDate(Object date, Object fromPattern, Object toPattern, Object zoneId) {
-        return formatDate(date, fromPattern, toPattern, zoneId, zoneId);
+    private static Optional<Object> formatDate(Object date, Object fromPattern, Object toPattern, Object zoneId,
+                                               BoundFormatter fromBound, BoundFormatter toBound) {
+        return formatDate(date, fromPattern, toPattern, zoneId, zoneId, fromBound, toBound);
     }
 
     /**
      * Transforms a date from one pattern to another.
      */
-    private static Optional<Object> formatDate(Object date, Object fromPattern, Object toPattern, Object fromZoneId, Object toZoneId) {
+    private static Optional<Object> formatDate(Object date, Object fromPattern, Object toPattern, Object fromZoneId, Object toZoneId,
+                                               BoundFormatter fromBound, BoundFormatter toBound) {
         if (!((date instanceof String dateStr)
                 && (fromPattern instanceof String fromPatternStr)
                 && (toPattern instanceof String toPatternStr)
@@ -204,8 +316,8 @@ public class Dates {
             return Optional.empty();
 
         try {
-            DateTimeFormatter fromFormatter = DateTimeFormatter.ofPattern(fromPatternStr);
-            DateTimeFormatter toFormatter = DateTimeFormatter.ofPattern(toPatternStr).withZone(ZoneId.of(toZoneIdStr));
+            DateTimeFormatter fromFormatter = BoundFormatter.resolve(fromBound, fromPatternStr, null);
+            DateTimeFormatter toFormatter = BoundFormatter.resolve(toBound, toPatternStr, toZoneIdStr);
             TemporalAccessor temporal = fromFormatter.parse(dateStr);
             Instant instant = parseToInstant(temporal, fromZoneIdStr);
             return Optional.of(toFormatter.format(instant));
@@ -214,7 +326,7 @@ public class Dates {
         }
     }
 
-    private static Optional<Object> modifyDate(Object date, Object pattern, Object duration, Object zoneId, boolean add) {
+    private static Optional<Object> modifyDate(Object date, Object pattern, Object duration, Object zoneId, boolean add, BoundFormatter bound) {
         if (!((date instanceof String dateStr)
                 && (pattern instanceof String patternStr)
                 && (duration instanceof String durationStr)
@@ -222,16 +334,17 @@ public class Dates {
             return Optional.empty();
 
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(patternStr);
+            DateTimeFormatter formatter = BoundFormatter.resolve(bound, patternStr, null);
             TemporalAccessor temporal = formatter.parse(dateStr);
             PeriodDuration periodDuration = computePeriodDuration(durationStr);
             Instant instant = parseToInstant(temporal, zoneIdStr);
 
-            LocalDateTime resultDateTime = LocalDateTime.ofInstant(instant, ZoneId.of(zoneIdStr));
+            ZoneId zone = DateTimeCache.zone(zoneIdStr);
+            LocalDateTime resultDateTime = LocalDateTime.ofInstant(instant, zone);
             resultDateTime = add ? resultDateTime.plus(periodDuration.period).plus(periodDuration.duration) :
                     resultDateTime.minus(periodDuration.period).minus(periodDuration.duration);
 
-            return Optional.of(formatter.format(resultDateTime.atZone(ZoneId.of(zoneIdStr))));
+            return Optional.of(formatter.format(resultDateTime.atZone(zone)));
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -240,19 +353,55 @@ public class Dates {
     /**
      * Adds a duration to a date, with duration expressed in ISO8601 format (e.g., P1D).
      */
-    private static Optional<Object> dateAdd(Object date, Object pattern, Object duration, Object zoneId) {
-        return modifyDate(date, pattern, duration, zoneId,true);
+    private static Optional<Object> dateAdd(Object date, Object pattern, Object duration, Object zoneId, BoundFormatter bound) {
+        return modifyDate(date, pattern, duration, zoneId, true, bound);
     }
 
     /**
      * Subtracts a duration from a date, with duration expressed in ISO8601 format (e.g., P1D).
      */
-    private static Optional<Object> dateSubstract(Object date, Object pattern, Object duration, Object zoneId) {
-        return modifyDate(date, pattern, duration, zoneId,  false);
+    private static Optional<Object> dateSubstract(Object date, Object pattern, Object duration, Object zoneId, BoundFormatter bound) {
+        return modifyDate(date, pattern, duration, zoneId, false, bound);
     }
 
-    private static DateTimeFormatter createFormatterWithTimeZone(String pattern, String zoneId) {
-        return DateTimeFormatter.ofPattern(pattern).withZone(ZoneId.of(zoneId));
+    /**
+     * A DateTimeFormatter resolved when the spec was built, from literal pattern and zone args, as in
+     * "=fromEpochMilli(@(1,time), 'yyyy-MM-dd', 'UTC')".  Args that turn out to be different at transform
+     * time, or were not literals to begin with, go through the {@link DateTimeCache}.
+     *
+     * @param zoneId null for a formatter without a zone
+     */
+    private record BoundFormatter(String pattern, String zoneId, DateTimeFormatter formatter) {
+
+        /**
+         * @param zoneIndex -1 for a formatter without a zone
+         * @return null if the pattern or zone is not a literal, or is invalid, in which case it will fail at transform time
+         */
+        static BoundFormatter bind(Object[] args, boolean[] literal, int patternIndex, int zoneIndex) {
+            if (!(literal[patternIndex] && args[patternIndex] instanceof String pattern)) {
+                return null;
+            }
+            String zoneId = null;
+            if (zoneIndex >= 0) {
+                if (!(literal[zoneIndex] && args[zoneIndex] instanceof String zone)) {
+                    return null;
+                }
+                zoneId = zone;
+            }
+            try {
+                DateTimeFormatter formatter = zoneId == null ? DateTimeCache.formatter(pattern) : DateTimeCache.formatter(pattern, zoneId);
+                return new BoundFormatter(pattern, zoneId, formatter);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        static DateTimeFormatter resolve(BoundFormatter bound, String pattern, String zoneId) {
+            if (bound != null && bound.pattern.equals(pattern) && (zoneId == null ? bound.zoneId == null : zoneId.equals(bound.zoneId))) {
+                return bound.formatter;
+            }
+            return zoneId == null ? DateTimeCache.formatter(pattern) : DateTimeCache.formatter(pattern, zoneId);
+        }
     }
 
     private static Optional<Long> castToLong(Object obj) {
@@ -272,10 +421,10 @@ public class Dates {
             return Instant.from(temporal);
         } else if (temporal.isSupported(ChronoField.HOUR_OF_DAY)) {
             LocalDateTime localDateTime = LocalDateTime.from(temporal);
-            return localDateTime.atZone(ZoneId.of(zoneId)).toInstant();
+            return localDateTime.atZone(DateTimeCache.zone(zoneId)).toInstant();
         } else {
             LocalDate localDate = LocalDate.from(temporal);
-            return localDate.atStartOfDay(ZoneId.of(zoneId)).toInstant();
+            return localDate.atStartOfDay(DateTimeCache.zone(zoneId)).toInstant();
         }
     }
 
@@ -170,6 +170,35 @@ public interface Function {
 
     Optional<Object> apply(Object... args);
 
+    /**
+     * Same as apply with the single given argument.
+     * <p>
+     * Modifier calls this rather than the varargs apply when it knows, from the spec, that it has exactly one
+     * argument, so Functions that can handle that shape without an argument array may override it.
+     */
+    default Optional<Object> applySingleArg(Object arg) {
+        return apply(arg);
+    }
+
+    /**
+     * Same as apply with the two given arguments, see {@link #applySingleArg(Object)}.
+     */
+    default Optional<Object> applyTwoArgs(Object first, Object second) {
+        return apply(first, second);
+    }
+
+    /**
+     * Called once per call site, when the spec is built, with the args that are spec literals, so that a
+     * Function can do its per-arg preparation, like compiling a regex, up front.
+     *
+     * @param args    the args of the call site, with the literal ones filled in and null for the rest
+     * @param literal which of the args are literals
+     * @return the Function to call at this call site, which must give the same results as this one
+     */
+    default Function bind(Object[] args, boolean[] literal) {
+        return this;
+    }
+
     /**
      * Abstract class that processes var-args and calls two abstract methods
      * <p>
@@ -185,25 +214,30 @@ public interface Function {
             if (args.length == 0) {
                 return Optional.empty();
             } else if (args.length == 1) {
-                if (args[0] instanceof List) {
-                    if (((List<?>) args[0]).isEmpty()) {
-                        return Optional.empty();
-                    } else {
-                        return applyList((List) args[0]);
-                    }
-                } else if (args[0] instanceof Object[]) {
-                    if (((Object[]) args[0]).length == 0) {
-                        return Optional.empty();
-                    } else {
-                        return applyList(Arrays.asList(((Object[]) args[0])));
-                    }
-                } else if (args[0] == null) {
+                return applySingleArg(args[0]);
+            } else {
+                return applyList(Arrays.asList(args));
+            }
+        }
+
+        @Override
+        public final Optional<Object> applySingleArg(final Object arg) {
+            if (arg instanceof List) {
+                if (((List<?>) arg).isEmpty()) {
                     return Optional.empty();
                 } else {
-                    return (Optional) applySingle(args[0]);
+                    return applyList((List) arg);
                 }
+            } else if (arg instanceof Object[]) {
+                if (((Object[]) arg).length == 0) {
+                    return Optional.empty();
+                } else {
+                    return applyList(Arrays.asList(((Object[]) arg)));
+                }
+            } else if (arg == null) {
+                return Optional.empty();
             } else {
-                return applyList(Arrays.asList(args));
+                return (Optional) applySingle(arg);
             }
         }
 
@@ -314,6 +348,28 @@ public interface Function {
             }
         }
 
+        @Override
+        public final Optional<Object> applySingleArg(Object arg) {
+            // a lone argument can only be a List holding the special argument and the rest
+            if (arg instanceof List) {
+                return apply(arg);
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public final Optional<Object> applyTwoArgs(Object first, Object second) {
+            if (!specialArgType.isInstance(first)) {
+                return Optional.empty();
+            }
+            SOURCE specialArg = (SOURCE) first;
+            if (second instanceof List) {
+                return applyList(specialArg, (List) second);
+            } else {
+                return (Optional) applySingle(specialArg, second);
+            }
+        }
+
         protected abstract Optional<Object> applyList(SOURCE specialArg, List<Object> args);
 
         protected abstract Optional<RETTYPE> applySingle(SOURCE specialArg, Object arg);
@@ -372,25 +428,30 @@ public interface Function {
             if (args.length == 0) {
                 return Optional.empty();
             } else if (args.length == 1) {
-                if (args[0] instanceof List) {
-                    if (((List<?>) args[0]).isEmpty()) {
-                        return Optional.empty();
-                    } else {
-                        return (Optional) applySingle((List) args[0]);
-                    }
-                } else if (args[0] instanceof Object[]) {
-                    if (((Object[]) args[0]).length == 0) {
-                        return Optional.empty();
-                    } else {
-                        return (Optional) applySingle(Arrays.asList(((Object[]) args[0])));
-                    }
-                } else if (args[0] == null) {
+                return applySingleArg(args[0]);
+            } else {
+                return (Optional) applySingle(Arrays.asList(args));
+            }
+        }
+
+        @Override
+        public final Optional<Object> applySingleArg(final Object arg) {
+            if (arg instanceof List) {
+                if (((List<?>) arg).isEmpty()) {
                     return Optional.empty();
                 } else {
-                    return (Optional) applySingle(args[0]);
+                    return (Optional) applySingle((List) arg);
                 }
+            } else if (arg instanceof Object[]) {
+                if (((Object[]) arg).length == 0) {
+                    return Optional.empty();
+                } else {
+                    return (Optional) applySingle(Arrays.asList(((Object[]) arg)));
+                }
+            } else if (arg == null) {
+                return Optional.empty();
             } else {
-                return (Optional) applySingle(Arrays.asList(args));
+                return (Optional) applySingle(arg);
             }
         }
 
@@ -62,6 +62,13 @@ public abstract class FunctionArg {
 
     public abstract Optional<Object> evaluateArg(WalkedPath walkedPath, Map<String, Object> context);
 
+    /**
+     * @return true if this arg evaluates to the same value everywhere, so that it can be evaluated up front
+     */
+    boolean isLiteral() {
+        return false;
+    }
+
     private static final class SelfLookupArg extends FunctionArg {
         private final TransposePathElement pathElement;
 
@@ -105,5 +112,10 @@ public abstract class FunctionArg {
         public Optional<Object> evaluateArg(final WalkedPath walkedPath, final Map<String, Object> context) {
             return returnValue;
         }
+
+        @Override
+        boolean isLiteral() {
+            return true;
+        }
     }
 }
@@ -17,82 +17,260 @@
 
 package io.joltcommunity.jolt.modifier.function;
 
+import io.joltcommunity.jolt.common.DeepCopy;
 import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
+import io.joltcommunity.jolt.exception.SpecException;
 
 import java.util.Map;
 
+/**
+ * Evaluates one RHS expression of a Modifier spec, either a plain arg like "@(1,value)" or a function call
+ * like "=abs(@(1,value))".
+ * <p>
+ * The shape of the call, how many args and which of them are literals, is known from the spec, so each
+ * expression gets a call site built for that shape, which hands its args to the Function without going
+ * through an args array where the Function supports that, see {@link Function#applySingleArg(Object)}.
+ */
 @SuppressWarnings("deprecated")
-public class FunctionEvaluator {
-
-    // function that is evaluated and applied as output
-    private final Function function;
-    // arguments of the function, not evaluated and can be a jolt path expression that
-    // either point to a context or self, or a value present at the matching level
-    private final FunctionArg[] functionArgs;
+public abstract class FunctionEvaluator {
 
-    private FunctionEvaluator(final Function function, final FunctionArg... functionArgs) {
-        this.function = function;
-        this.functionArgs = functionArgs;
+    private FunctionEvaluator() {
     }
 
     public static FunctionEvaluator forFunctionEvaluation(Function function, FunctionArg... functionArgs) {
-        return new FunctionEvaluator(function, functionArgs);
+        if (function == null) {
+            // unknown function name, fall back to the value of the first arg, if any
+            return new ArgEvaluator(functionArgs.length > 0 ? functionArgs[0] : null);
+        }
+        if (functionArgs.length > 0) {
+            function = bind(function, functionArgs);
+        }
+        return switch (functionArgs.length) {
+            case 0 -> new CurrentValueCall(function);
+            case 1 -> new SingleArgCall(function, functionArgs[0]);
+            case 2 -> new TwoArgCall(function, functionArgs[0], functionArgs[1]);
+            default -> new MultiArgCall(function, functionArgs);
+        };
     }
 
-    public static FunctionEvaluator forArgEvaluation(FunctionArg functionArgs) {
-        return new FunctionEvaluator(null, functionArgs);
-    }
+    /**
+     * Same as {@link #forFunctionEvaluation(Function, FunctionArg...)}, except that a call to a pure function with
+     * only literal args is made once, here, and its result returned for every input.
+     *
+     * @throws SpecException if such a call, with args that fit the arity, returns a value of another type than the
+     *                       definition declares
+     */
+    public static FunctionEvaluator forFunctionEvaluation(FunctionRegistry.Definition definition, FunctionArg... functionArgs) {
+        FunctionEvaluator call = forFunctionEvaluation(definition.getFunction(), functionArgs);
+        if (!definition.isPure() || functionArgs.length == 0) {
+            return call;
+        }
+        for (FunctionArg functionArg : functionArgs) {
+            if (!functionArg.isLiteral()) {
+                return call;
+            }
+        }
 
-    private static Object[] evaluateArgsValue(final FunctionArg[] functionArgs, final Map<String, Object> context, final WalkedPath walkedPath) {
+        // literal args do not look at the WalkedPath or the context
+        Optional<Object> result = call.evaluate(Optional.empty(), null, null);
+        // the declared type is that of calls within the arity, others may return anything, like the List of "=toUpper('a','b')"
+        if (result.isPresent() && result.get() != null && definition.acceptsArgCount(functionArgs.length)
+                && !definition.getResultType().isInstance(result.get())) {
+            throw new SpecException("Function returned a " + result.get().getClass().getName() + ", it is declared to return "
+                    + definition.getResultType().getName());
+        }
+        return new ConstantResult(result);
+    }
 
-        Object[] evaluatedArgs = new Object[functionArgs.length];
+    private static Function bind(Function function, FunctionArg[] functionArgs) {
+        Object[] args = new Object[functionArgs.length];
+        boolean[] literal = new boolean[functionArgs.length];
         for (int i = 0; i < functionArgs.length; i++) {
-            FunctionArg arg = functionArgs[i];
-            Optional<Object> evaluatedValue = arg.evaluateArg(walkedPath, context);
-            evaluatedArgs[i] = evaluatedValue.get();
+            if (functionArgs[i].isLiteral()) {
+                args[i] = functionArgs[i].evaluateArg(null, null).get();
+                literal[i] = true;
+            }
         }
-        return evaluatedArgs;
+        return function.bind(args, literal);
     }
 
-    public Optional<Object> evaluate(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+    public static FunctionEvaluator forArgEvaluation(FunctionArg functionArgs) {
+        return new ArgEvaluator(functionArgs);
+    }
 
-        Optional<Object> valueOptional = Optional.empty();
+    public final Optional<Object> evaluate(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
         try {
+            return call(inputOptional, walkedPath, context);
+        } catch (Exception ignored) {
+            return Optional.empty();
+        }
+    }
+
+    abstract Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context);
+
+    /**
+     * "key": "@0", "key": literal
+     */
+    private static final class ArgEvaluator extends FunctionEvaluator {
+
+        private final FunctionArg functionArg;
 
-            // "key": "@0", "key": literal
-            if (function == null) {
-                valueOptional = functionArgs[0].evaluateArg(walkedPath, context);
+        private ArgEvaluator(FunctionArg functionArg) {
+            this.functionArg = functionArg;
+        }
+
+        @Override
+        Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+            if (functionArg == null) {
+                return Optional.empty();
             }
-            // "key": "=abs(@(1,&0))"
-            // this is most usual case, a single argument is passed and we need to evaluate and
-            // pass the value, if present, to the spec function
-            else if (functionArgs.length == 1) {
-                Optional<Object> evaluatedArgValue = functionArgs[0].evaluateArg(walkedPath, context);
-                valueOptional = evaluatedArgValue.isPresent() ? function.apply(evaluatedArgValue.get()) : function.apply();
+            return functionArg.evaluateArg(walkedPath, context);
+        }
+    }
+
+    /**
+     * "key": "=abs(-1)" with a pure function, worked out when the spec was built
+     */
+    private static final class ConstantResult extends FunctionEvaluator {
+
+        private final Optional<Object> result;
+        private final boolean copy;
+
+        private ConstantResult(Optional<Object> result) {
+            this.result = result;
+            // every write gets its own copy of a result that is not immutable, like the List of "=toList(1,2)" or
+            //  the array of "=sort(3,1,2)", as the output may be modified later on
+            this.copy = !DeepCopy.isImmutableScalar(result.get());
+        }
+
+        @Override
+        Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+            if (!copy) {
+                return result;
             }
-            // "key": "=abs(@(1,&0),-1,-3)"
-            // this is more complicated case! if args is an array, after evaluation we cannot pass a missing value wrapped in
-            // object[] into function. In such case null will be passed however, in json null is also a valid value, so it is
-            // upto the implementer to interpret the value. Ideally we can almost always pass a list straight from input.
-            else if (functionArgs.length > 1) {
-                Object[] evaluatedArgs = evaluateArgsValue(functionArgs, context, walkedPath);
-                valueOptional = function.apply(evaluatedArgs);
+            Object value = result.get();
+            return Optional.of(value instanceof Object[] array ? array.clone() : DeepCopy.simpleDeepCopy(value));
+        }
+    }
+
+    /**
+     * "key": "=abs"
+     * <p>
+     * FYI this is where the "magic" happens that allows functions that take a single method
+     * default to the current "match" rather than an explicit "reference".
+     * Note, this does not work for functions that take more than a single input.
+     */
+    private static final class CurrentValueCall extends FunctionEvaluator {
+
+        private final Function function;
+
+        private CurrentValueCall(Function function) {
+            this.function = function;
+        }
+
+        @Override
+        Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+            // pass current value as arg if present
+            return inputOptional.isPresent() ? function.applySingleArg(inputOptional.get()) : function.apply();
+        }
+    }
+
+    /**
+     * "key": "=abs(@(1,&0))"
+     * <p>
+     * this is most usual case, a single argument is passed and we need to evaluate and
+     * pass the value, if present, to the spec function
+     */
+    private static final class SingleArgCall extends FunctionEvaluator {
+
+        private final Function function;
+        private final FunctionArg functionArg;
+
+        private SingleArgCall(Function function, FunctionArg functionArg) {
+            this.function = function;
+            this.functionArg = functionArg;
+        }
+
+        @Override
+        Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+            Optional<Object> evaluatedArgValue = functionArg.evaluateArg(walkedPath, context);
+            return evaluatedArgValue.isPresent() ? function.applySingleArg(evaluatedArgValue.get()) : function.apply();
+        }
+    }
+
+    /**
+     * "key": "=divide(@(1,a),2)"
+     * <p>
+     * Missing values are passed as null, as for {@link MultiArgCall}.
+     */
+    private static final class TwoArgCall extends FunctionEvaluator {
+
+        private final Function function;
+        private final FunctionArg first;
+        private final FunctionArg second;
+
+        private TwoArgCall(Function function, FunctionArg first, FunctionArg second) {
+            this.function = function;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+            return function.applyTwoArgs(first.evaluateArg(walkedPath, context).get(), second.evaluateArg(walkedPath, context).get());
+        }
+    }
+
+    /**
+     * "key": "=abs(@(1,&0),-1,-3)"
+     * <p>
+     * this is more complicated case! if args is an array, after evaluation we cannot pass a missing value wrapped in
+     * object[] into function. In such case null will be passed however, in json null is also a valid value, so it is
+     * upto the implementer to interpret the value. Ideally we can almost always pass a list straight from input.
+     * <p>
+     * Literal args are the same for every call, so they are evaluated once, into a template of the args array.
+     */
+    private static final class MultiArgCall extends FunctionEvaluator {
+
+        private final Function function;
+        private final Object[] argsTemplate;
+        private final FunctionArg[] dynamicArgs;
+        private final int[] dynamicIndexes;
+
+        private MultiArgCall(Function function, FunctionArg[] functionArgs) {
+            this.function = function;
+
+            argsTemplate = new Object[functionArgs.length];
+            int dynamicCount = 0;
+            for (FunctionArg arg : functionArgs) {
+                if (!arg.isLiteral()) {
+                    dynamicCount++;
+                }
             }
-            //
-            // FYI this is where the "magic" happens that allows functions that take a single method
-            //  default to the current "match" rather than an explicit "reference".
-            // Note, this does not work for functions that take more than a single input.
-            //
-            // "key": "=abs"
-            else {
-                // pass current value as arg if present
-                valueOptional = inputOptional.isPresent() ? function.apply(inputOptional.get()) : function.apply();
+            dynamicArgs = new FunctionArg[dynamicCount];
+            dynamicIndexes = new int[dynamicCount];
+
+            int dynamic = 0;
+            for (int i = 0; i < functionArgs.length; i++) {
+                if (functionArgs[i].isLiteral()) {
+                    argsTemplate[i] = functionArgs[i].evaluateArg(null, null).get();
+                } else {
+                    dynamicArgs[dynamic] = functionArgs[i];
+                    dynamicIndexes[dynamic] = i;
+                    dynamic++;
+                }
             }
-        } catch (Exception ignored) {
         }
 
-        return valueOptional;
-
+        @Override
+        Optional<Object> call(Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+            // a fresh array every time, as the Function may hang on to it, say as the List it returns
+            Object[] evaluatedArgs = argsTemplate.clone();
+            for (int i = 0; i < dynamicArgs.length; i++) {
+                evaluatedArgs[dynamicIndexes[i]] = dynamicArgs[i].evaluateArg(walkedPath, context).get();
+            }
+            return function.apply(evaluatedArgs);
+        }
     }
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.modifier.function;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The functions a Modifier spec can call by name, like "=toUpper" or "=divide(@(1,a),2)".
+ * <p>
+ * Each function is registered with a {@link Definition} that says, beyond the Function itself, whether it is
+ * pure, how many args it takes and what type it returns.  A Modifier resolves every function name of its spec
+ * against the registry when it is built, so an unknown name is a SpecException up front, and calls to pure
+ * functions whose args are all literals are evaluated once, there, instead of for every input.
+ * <p>
+ * A call with a number of args the function does not take gives an empty result, as it always has.  A strict
+ * registry, see {@link Builder#strict(boolean)}, makes such calls a SpecException at build instead.
+ * <p>
+ * Registries are immutable and may be shared between threads.  To add custom functions to the stock ones :
+ * <pre>
+ * FunctionRegistry functions = FunctionRegistry.stock().toBuilder()
+ *         .register( "slugify", new Slugify() )
+ *         .register( "cents", FunctionRegistry.Definition.pure( new Cents() ).arity( 1, 1 ).returns( Long.class ) )
+ *         .build();
+ *
+ * Chainr chainr = new ChainrBuilder( spec ).functions( functions ).build();
+ * </pre>
+ */
+public final class FunctionRegistry {
+
+    private static final int MANY = Integer.MAX_VALUE;
+
+    private static final FunctionRegistry STOCK = createStock();
+
+    private final Map<String, Definition> definitions;
+    private final boolean strict;
+
+    private FunctionRegistry(Map<String, Definition> definitions, boolean strict) {
+        this.definitions = Collections.unmodifiableMap(new LinkedHashMap<>(definitions));
+        this.strict = strict;
+    }
+
+    /**
+     * @return the functions every Modifier knows about
+     */
+    public static FunctionRegistry stock() {
+        return STOCK;
+    }
+
+    /**
+     * @return a Builder with no functions registered
+     */
+    public static Builder builder() {
+        return new Builder(Collections.emptyMap(), false);
+    }
+
+    /**
+     * Wraps a plain map of functions, as the Modifiers used to take.
+     * <p>
+     * Functions that are the stock function of the same name keep their stock Definition, any other function is
+     * registered with {@link Definition#of(Function)}, as nothing is known about it.
+     */
+    public static FunctionRegistry of(Map<String, Function> functions) {
+        Builder builder = builder();
+        for (Map.Entry<String, Function> entry : functions.entrySet()) {
+            Definition stock = STOCK.definitions.get(entry.getKey());
+            if (stock != null && stock.getFunction() == entry.getValue()) {
+                builder.register(entry.getKey(), stock);
+            } else {
+                builder.register(entry.getKey(), entry.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return a Builder holding the functions of this registry, to add to or override
+     */
+    public Builder toBuilder() {
+        return new Builder(definitions, strict);
+    }
+
+    /**
+     * @return the Definition registered under name, or null if there is none
+     */
+    public Definition get(String name) {
+        return definitions.get(name);
+    }
+
+    public boolean isEmpty() {
+        return definitions.isEmpty();
+    }
+
+    /**
+     * @return true if calls whose args do not fit the arity of their function fail at spec build
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * @return the registered function names and their Definitions, in the order they were registered
+     */
+    public Map<String, Definition> getDefinitions() {
+        return definitions;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Definition> definitions;
+        private boolean strict;
+
+        private Builder(Map<String, Definition> definitions, boolean strict) {
+            this.definitions = new LinkedHashMap<>(definitions);
+            this.strict = strict;
+        }
+
+        /**
+         * A strict registry checks the args of every call against the arity of its function when the spec is
+         * built, so that "=divide(1)" is a SpecException rather than an empty result.  Registries are not strict
+         * unless asked to be.
+         */
+        public Builder strict(boolean strict) {
+            this.strict = strict;
+            return this;
+        }
+
+        /**
+         * Registers function under name, with nothing known about it : it is impure, takes any number of args
+         * and returns any type.
+         */
+        public Builder register(String name, Function function) {
+            return register(name, Definition.of(function));
+        }
+
+        /**
+         * Registers a function under name, replacing any function already registered under that name.
+         */
+        public Builder register(String name, Definition definition) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("FunctionRegistry requires a non-empty function name.");
+            }
+            if (definition == null) {
+                throw new IllegalArgumentException("FunctionRegistry requires a non-null definition for function " + name);
+            }
+            definitions.put(name, definition);
+            return this;
+        }
+
+        public FunctionRegistry build() {
+            return new FunctionRegistry(definitions, strict);
+        }
+    }
+
+    /**
+     * A Function, with what the spec build needs to know about it.
+     * <p>
+     * A pure function returns equal results for equal args and has no side effects, so a call with only literal
+     * args can be made once, when the spec is built.  The arity counts the args written in the spec, and is only
+     * checked by a strict registry, see {@link #acceptsArgs(FunctionArg...)}.
+     */
+    public static final class Definition {
+
+        private final Function function;
+        private final boolean pure;
+        private final int minArgs;
+        private final int maxArgs;
+        private final Class<?> resultType;
+
+        private Definition(Function function, boolean pure, int minArgs, int maxArgs, Class<?> resultType) {
+            if (function == null) {
+                throw new IllegalArgumentException("FunctionRegistry.Definition requires a non-null function.");
+            }
+            if (minArgs < 0 || maxArgs < minArgs) {
+                throw new IllegalArgumentException("FunctionRegistry.Definition requires 0 <= minArgs <= maxArgs, was " + minArgs + ", " + maxArgs);
+            }
+            if (resultType == null) {
+                throw new IllegalArgumentException("FunctionRegistry.Definition requires a non-null result type.");
+            }
+            this.function = function;
+            this.pure = pure;
+            this.minArgs = minArgs;
+            this.maxArgs = maxArgs;
+            this.resultType = resultType;
+        }
+
+        /**
+         * @return an impure Definition of function, taking any number of args and returning any type
+         */
+        public static Definition of(Function function) {
+            return new Definition(function, false, 0, Integer.MAX_VALUE, Object.class);
+        }
+
+        /**
+         * @return a pure Definition of function, taking any number of args and returning any type
+         */
+        public static Definition pure(Function function) {
+            return new Definition(function, true, 0, Integer.MAX_VALUE, Object.class);
+        }
+
+        /**
+         * @return a copy of this Definition that takes between minArgs and maxArgs args
+         */
+        public Definition arity(int minArgs, int maxArgs) {
+            return new Definition(function, pure, minArgs, maxArgs, resultType);
+        }
+
+        /**
+         * @return a copy of this Definition whose non-null results for scalar args are of resultType, which is
+         * checked when a pure call is made at build
+         */
+        public Definition returns(Class<?> resultType) {
+            return new Definition(function, pure, minArgs, maxArgs, resultType);
+        }
+
+        public Function getFunction() {
+            return function;
+        }
+
+        public boolean isPure() {
+            return pure;
+        }
+
+        public int getMinArgs() {
+            return minArgs;
+        }
+
+        public int getMaxArgs() {
+            return maxArgs;
+        }
+
+        public Class<?> getResultType() {
+            return resultType;
+        }
+
+        public boolean acceptsArgCount(int argCount) {
+            return argCount >= minArgs && argCount <= maxArgs;
+        }
+
+        /**
+         * A call without args, like "=divide", is given the current value, and a single reference, like
+         * "=divide(@(1,value))", may be a List that is spread into the args, so neither can be counted.
+         *
+         * @return false if the written args of a call can not fit the arity
+         */
+        public boolean acceptsArgs(FunctionArg... args) {
+            if (args.length == 0 || (args.length == 1 && !args[0].isLiteral())) {
+                return true;
+            }
+            return acceptsArgCount(args.length);
+        }
+    }
+
+    private static FunctionRegistry createStock() {
+        Builder builder = builder();
+
+        // the result types are those for scalar args, which is all a call made at build gets : a single value
+        //  function given a list, like "=toUpper(@(1,names))", returns a list
+        builder.register("toLower", pure(new Strings.toLowerCase(), 1, 1).returns(String.class));
+        builder.register("toUpper", pure(new Strings.toUpperCase(), 1, 1).returns(String.class));
+        builder.register("concat", pure(new Strings.concat(), 1, MANY).returns(String.class));
+        builder.register("join", pure(new Strings.join(), 2, MANY).returns(String.class));
+        builder.register("split", pure(new Strings.split(), 2, MANY).returns(List.class));
+        builder.register("substring", pure(new Strings.substring(), 3, 3).returns(String.class));
+        builder.register("trim", pure(new Strings.trim(), 1, 1).returns(String.class));
+        builder.register("leftPad", pure(new Strings.leftPad(), 3, 3).returns(String.class));
+        builder.register("rightPad", pure(new Strings.rightPad(), 3, 3).returns(String.class));
+        builder.register("replace", pure(new Strings.replace(), 3, 3).returns(String.class));
+        builder.register("replaceAll", pure(new Strings.replaceAll(), 3, 3).returns(String.class));
+
+        builder.register("min", pure(new Math.min(), 1, MANY).returns(Number.class));
+        builder.register("max", pure(new Math.max(), 1, MANY).returns(Number.class));
+        builder.register("abs", pure(new Math.abs(), 1, MANY));
+        builder.register("avg", pure(new Math.avg(), 1, MANY).returns(Number.class));
+        builder.register("intSum", pure(new Math.intSum(), 1, MANY).returns(Number.class));
+        builder.register("doubleSum", pure(new Math.doubleSum(), 1, MANY).returns(Number.class));
+        builder.register("longSum", pure(new Math.longSum(), 1, MANY).returns(Number.class));
+        builder.register("intSubtract", pure(new Math.intSubtract(), 2, 2).returns(Number.class));
+        builder.register("doubleSubtract", pure(new Math.doubleSubtract(), 2, 2).returns(Number.class));
+        builder.register("longSubtract", pure(new Math.longSubtract(), 2, 2).returns(Number.class));
+        builder.register("divide", pure(new Math.divide(), 2, 2).returns(Number.class));
+        builder.register("divideAndRound", pure(new Math.divideAndRound(), 3, 4).returns(Number.class));
+        builder.register("multiply", pure(new Math.multiply(), 2, 2).returns(Number.class));
+        builder.register("multiplyAndRound", pure(new Math.multiplyAndRound(), 3, 4).returns(Number.class));
+
+        builder.register("toInteger", pure(new Objects.toInteger(), 1, 1).returns(Integer.class));
+        builder.register("toDouble", pure(new Objects.toDouble(), 1, 1).returns(Double.class));
+        builder.register("toLong", pure(new Objects.toLong(), 1, 1).returns(Long.class));
+        builder.register("toBoolean", pure(new Objects.toBoolean(), 1, 1).returns(Boolean.class));
+        builder.register("toString", pure(new Objects.toString(), 1, 1).returns(String.class));
+        builder.register("size", pure(new Objects.size(), 1, MANY).returns(Integer.class));
+
+        builder.register("squashNulls", pure(new Objects.squashNulls(), 1, MANY));
+        builder.register("recursivelySquashNulls", pure(new Objects.recursivelySquashNulls(), 1, MANY));
+        builder.register("squashDuplicates", pure(new Objects.squashDuplicates(), 1, MANY));
+
+        builder.register("noop", Definition.pure(Function.noop));
+        builder.register("isPresent", pure(Function.isPresent, 1, 1));
+        builder.register("notNull", pure(Function.notNull, 1, 1));
+        builder.register("isNull", pure(Function.isNull, 1, 1));
+        builder.register("uuid", Definition.of(Function.uuid).returns(String.class));
+
+        builder.register("firstElement", pure(new Lists.firstElement(), 1, MANY));
+        builder.register("lastElement", pure(new Lists.lastElement(), 1, MANY));
+        builder.register("elementAt", pure(new Lists.elementAt(), 2, MANY));
+        builder.register("toList", pure(new Lists.toList(), 1, MANY).returns(List.class));
+        builder.register("sort", pure(new Lists.sort(), 1, MANY));
+
+        // now and nowEpochMillis read the clock
+        builder.register("fromEpochMilli", pure(new Dates.fromEpochMilli(), 1, 3).returns(String.class));
+        builder.register("toEpochMilli", pure(new Dates.toEpochMilli(), 3, 3).returns(Long.class));
+        builder.register("now", Definition.of(new Dates.now()).arity(2, 2).returns(String.class));
+        builder.register("nowEpochMillis", Definition.of(Dates.now).returns(Long.class));
+        builder.register("dateAdd", pure(new Dates.dateAdd(), 4, 4).returns(String.class));
+        builder.register("dateSubstract", pure(new Dates.dateSubstract(), 4, 4).returns(String.class));
+        builder.register("formatDate", pure(new Dates.formatDate(), 3, 5).returns(String.class));
+
+        return builder.build();
+    }
+
+    private static Definition pure(Function function, int minArgs, int maxArgs) {
+        return Definition.pure(function).arity(minArgs, maxArgs);
+    }
+}
@@ -83,10 +83,10 @@ public class Lists {
     /**
      * Given an arbitrary list of items, returns a new array of them in sorted state
      */
-    public static final class sort extends Function.BaseFunction {
+    public static final class sort extends Function.BaseFunction<Object> {
 
         @Override
-        protected Optional applyList(final List argList) {
+        protected Optional<Object> applyList(final List<Object> argList) {
             try {
                 Object[] dest = argList.toArray();
                 Arrays.sort(dest);
@@ -99,7 +99,7 @@ public class Lists {
         }
 
         @Override
-        protected Optional applySingle(final Object arg) {
+        protected Optional<Object> applySingle(final Object arg) {
             return Optional.of(arg);
         }
     }
@@ -22,7 +22,9 @@ import io.joltcommunity.jolt.common.Optional;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 @SuppressWarnings("deprecated")
 public class Math {
@@ -41,48 +43,37 @@ public class Math {
             return Optional.empty();
         }
 
-        Integer maxInt = Integer.MIN_VALUE;
-        Double maxDouble = -(Double.MAX_VALUE);
-        Long maxLong = Long.MIN_VALUE;
+        List<Object> list = randomAccess(args);
+        int maxInt = Integer.MIN_VALUE;
+        double maxDouble = -(Double.MAX_VALUE);
+        long maxLong = Long.MIN_VALUE;
         boolean found = false;
 
-        for (Object arg : args) {
-            if (arg instanceof Integer) {
-                maxInt = java.lang.Math.max(maxInt, (Integer) arg);
+        for (int i = 0, size = list.size(); i < size; i++) {
+            Object arg = list.get(i);
+            if (arg instanceof String) {
+                arg = Objects.toNumber(arg).get();
+            }
+            if (arg instanceof Integer value) {
+                maxInt = java.lang.Math.max(maxInt, value);
                 found = true;
-            } else if (arg instanceof Double) {
-                maxDouble = java.lang.Math.max(maxDouble, (Double) arg);
+            } else if (arg instanceof Double value) {
+                maxDouble = java.lang.Math.max(maxDouble, value);
                 found = true;
-            } else if (arg instanceof Long) {
-                maxLong = java.lang.Math.max(maxLong, (Long) arg);
+            } else if (arg instanceof Long value) {
+                maxLong = java.lang.Math.max(maxLong, value);
                 found = true;
-            } else if (arg instanceof String) {
-                Optional<?> optional = Objects.toNumber(arg);
-                if (optional.isPresent()) {
-                    arg = optional.get();
-                    if (arg instanceof Integer) {
-                        maxInt = java.lang.Math.max(maxInt, (Integer) arg);
-                        found = true;
-                    } else if (arg instanceof Double) {
-                        maxDouble = java.lang.Math.max(maxDouble, (Double) arg);
-                        found = true;
-                    } else if (arg instanceof Long) {
-                        maxLong = java.lang.Math.max(maxLong, (Long) arg);
-                        found = true;
-                    }
-                }
             }
         }
         if (!found) {
             return Optional.empty();
         }
 
-        // explicit getter method calls to avoid runtime autoboxing
-        // autoBoxing will cause it to return the different type
-        // check MathTest#testAutoBoxingIssue for example
-        if (maxInt.longValue() >= maxDouble.longValue() && maxInt.longValue() >= maxLong) {
+        // the Number type parameter is explicit, so that the winner is boxed to its own type
+        // rather than promoted to a common one, check MathTest#testAutoBoxingIssue for example
+        if (maxInt >= (long) maxDouble && maxInt >= maxLong) {
             return Optional.<Number>of(maxInt);
-        } else if (maxLong >= maxDouble.longValue()) {
+        } else if (maxLong >= (long) maxDouble) {
             return Optional.<Number>of(maxLong);
         } else {
             return Optional.<Number>of(maxDouble);
@@ -102,45 +93,36 @@ public class Math {
         if (args == null || args.size() == 0) {
             return Optional.empty();
         }
-        Integer minInt = Integer.MAX_VALUE;
-        Double minDouble = Double.MAX_VALUE;
-        Long minLong = Long.MAX_VALUE;
+
+        List<Object> list = randomAccess(args);
+        int minInt = Integer.MAX_VALUE;
+        double minDouble = Double.MAX_VALUE;
+        long minLong = Long.MAX_VALUE;
         boolean found = false;
 
-        for (Object arg : args) {
-            if (arg instanceof Integer) {
-                minInt = java.lang.Math.min(minInt, (Integer) arg);
+        for (int i = 0, size = list.size(); i < size; i++) {
+            Object arg = list.get(i);
+            if (arg instanceof String) {
+                arg = Objects.toNumber(arg).get();
+            }
+            if (arg instanceof Integer value) {
+                minInt = java.lang.Math.min(minInt, value);
                 found = true;
-            } else if (arg instanceof Double) {
-                minDouble = java.lang.Math.min(minDouble, (Double) arg);
+            } else if (arg instanceof Double value) {
+                minDouble = java.lang.Math.min(minDouble, value);
                 found = true;
-            } else if (arg instanceof Long) {
-                minLong = java.lang.Math.min(minLong, (Long) arg);
+            } else if (arg instanceof Long value) {
+                minLong = java.lang.Math.min(minLong, value);
                 found = true;
-            } else if (arg instanceof String) {
-                Optional<?> optional = Objects.toNumber(arg);
-                if (optional.isPresent()) {
-                    arg = optional.get();
-                    if (arg instanceof Integer) {
-                        minInt = java.lang.Math.min(minInt, (Integer) arg);
-                        found = true;
-                    } else if (arg instanceof Double) {
-                        minDouble = java.lang.Math.min(minDouble, (Double) arg);
-                        found = true;
-                    } else if (arg instanceof Long) {
-                        minLong = java.lang.Math.min(minLong, (Long) arg);
-                        found = true;
-                    }
-                }
             }
         }
         if (!found) {
             return Optional.empty();
         }
-        // explicit getter method calls to avoid runtime autoboxing
-        if (minInt.longValue() <= minDouble.longValue() && minInt.longValue() <= minLong) {
+        // explicit Number type parameter, to avoid promoting the winner to a common type
+        if (minInt <= (long) minDouble && minInt <= minLong) {
             return Optional.<Number>of(minInt);
-        } else if (minLong <= minDouble.longValue()) {
+        } else if (minLong <= (long) minDouble) {
             return Optional.<Number>of(minLong);
         } else {
             return Optional.<Number>of(minDouble);
@@ -178,51 +160,94 @@ public class Math {
      * avg(2,"2","abc") == Optional.of(2.0)
      */
     public static Optional<Double> avg(List<Object> args) {
+        List<Object> list = randomAccess(args);
         double sum = 0d;
         int count = 0;
-        for (Object arg : args) {
-            Optional<? extends Number> numberOptional = Objects.toNumber(arg);
-            if (numberOptional.isPresent()) {
-                sum = sum + numberOptional.get().doubleValue();
-                count = count + 1;
+        for (int i = 0, size = list.size(); i < size; i++) {
+            Object arg = list.get(i);
+            if (arg instanceof Integer value) {
+                sum += value;
+                count++;
+            } else {
+                Number number = toNumberOrNull(arg);
+                if (number != null) {
+                    sum += number.doubleValue();
+                    count++;
+                }
             }
         }
         return count == 0 ? Optional.<Double>empty() : Optional.of(sum / count);
     }
 
     public static Optional<Integer> intSum(List<Object> args) {
-        Integer sum = 0;
-        for (Object arg : args) {
-            Optional<? extends Integer> numberOptional = Objects.toInteger(arg);
-            if (numberOptional.isPresent()) {
-                sum = sum + numberOptional.get();
+        List<Object> list = randomAccess(args);
+        int sum = 0;
+        for (int i = 0, size = list.size(); i < size; i++) {
+            Object arg = list.get(i);
+            if (arg instanceof Integer value) {
+                sum += value;
+            } else {
+                Number number = toNumberOrNull(arg);
+                if (number != null) {
+                    sum += number.intValue();
+                }
             }
         }
         return Optional.of(sum);
     }
 
     public static Optional<Double> doubleSum(List<Object> args) {
-        Double sum = 0.0;
-        for (Object arg : args) {
-            Optional<? extends Double> numberOptional = Objects.toDouble(arg);
-            if (numberOptional.isPresent()) {
-                sum = sum + numberOptional.get();
+        List<Object> list = randomAccess(args);
+        double sum = 0.0;
+        for (int i = 0, size = list.size(); i < size; i++) {
+            Object arg = list.get(i);
+            if (arg instanceof Double value) {
+                sum += value;
+            } else {
+                Number number = toNumberOrNull(arg);
+                if (number != null) {
+                    sum += number.doubleValue();
+                }
             }
         }
         return Optional.of(sum);
     }
 
     public static Optional<Long> longSum(List<Object> args) {
-        Long sum = 0l;
-        for (Object arg : args) {
-            Optional<? extends Long> numberOptional = Objects.toLong(arg);
-            if (numberOptional.isPresent()) {
-                sum = sum + numberOptional.get();
+        List<Object> list = randomAccess(args);
+        long sum = 0L;
+        for (int i = 0, size = list.size(); i < size; i++) {
+            Object arg = list.get(i);
+            if (arg instanceof Integer value) {
+                sum += value;
+            } else {
+                Number number = toNumberOrNull(arg);
+                if (number != null) {
+                    sum += number.longValue();
+                }
             }
         }
         return Optional.of(sum);
     }
 
+    /**
+     * The reductions above walk their args by index, and check for the boxed type JSON parsers produce for the
+     * data first, so that reducing an ArrayList of Integers, say, costs one type check and one unboxing per value.
+     */
+    private static List<Object> randomAccess(List<Object> args) {
+        return args instanceof RandomAccess ? args : new ArrayList<>(args);
+    }
+
+    /**
+     * Same as Objects.toNumber, without wrapping the result.
+     */
+    private static Number toNumberOrNull(Object arg) {
+        if (arg instanceof Number number) {
+            return number;
+        }
+        return arg instanceof String ? Objects.toNumber(arg).get() : null;
+    }
+
     public static Optional<Integer> intSubtract(List<Object> argList) {
 
         if (argList == null || argList.size() != 2) {
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.modifier.function;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compiled regex Patterns, for the String functions whose regex arg only shows up at transform time,
+ * like "=replaceAll(@(1,value),@(1,regex),'')".  Pattern.compile is much more expensive than the match.
+ */
+final class PatternCache {
+
+    static final int MAX_SIZE = 256;
+
+    private static final BoundedCache<String, Pattern> PATTERNS = new BoundedCache<>(MAX_SIZE, Pattern::compile);
+
+    private PatternCache() {
+    }
+
+    /**
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    static Pattern compile(String regex) {
+        return PATTERNS.get(regex);
+    }
+
+    static int size() {
+        return PATTERNS.size();
+    }
+}
@@ -20,6 +20,7 @@ import io.joltcommunity.jolt.common.Optional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 @SuppressWarnings("deprecated")
@@ -190,17 +191,81 @@ public class Strings {
         }
     }
 
-    public static final class split extends Function.ArgDrivenSingleFunction<String, List> {
-        @Override
-        protected Optional<List> applySingle(final String separator, final Object source) {
-            if (source == null || separator == null) {
-                return Optional.empty();
-            } else if (source instanceof String inputString) {
-                // only try to split input strings
+    /**
+     * @return true if String.split handles this separator without compiling it, see String.split(String, int)
+     */
+    private static boolean isFastSplit(String regex) {
+        char ch;
+        if (regex.length() == 1) {
+            ch = regex.charAt(0);
+            if (".$|()[{^?*+\\".indexOf(ch) != -1) {
+                return false;
+            }
+        } else if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            ch = regex.charAt(1);
+            if (Character.isLetterOrDigit(ch) && ch < 128) {
+                return false;
+            }
+        } else {
+            return false;
+        }
+        return ch < Character.MIN_HIGH_SURROGATE || ch > Character.MAX_LOW_SURROGATE;
+    }
+
+    /**
+     * Same as source.split(separator), with the separator compiled at most once.
+     */
+    private static Optional<List<String>> split(String separator, Pattern boundPattern, Object source) {
+        if (source == null || separator == null) {
+            return Optional.empty();
+        } else if (source instanceof String inputString) {
+            // only try to split input strings
+            if (boundPattern != null && separator.equals(boundPattern.pattern())) {
+                return Optional.of(Arrays.asList(boundPattern.split(inputString)));
+            }
+            if (isFastSplit(separator)) {
                 return Optional.of(Arrays.asList(inputString.split(separator)));
-            } else {
-                return Optional.empty();
             }
+            return Optional.of(Arrays.asList(PatternCache.compile(separator).split(inputString)));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    public static final class split extends Function.ArgDrivenSingleFunction<String, List<String>> {
+        @Override
+        protected Optional<List<String>> applySingle(final String separator, final Object source) {
+            return Strings.split(separator, null, source);
+        }
+
+        /**
+         * A literal separator, as in "=split(',', @(1,value))", that String.split would compile every time,
+         * gets compiled here, once.
+         */
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            if (args.length == 2 && literal[0] && args[0] instanceof String separator && !isFastSplit(separator)) {
+                try {
+                    return new boundSplit(Pattern.compile(separator));
+                } catch (PatternSyntaxException e) {
+                    // leave it to fail at transform time, as it always has
+                }
+            }
+            return this;
+        }
+    }
+
+    private static final class boundSplit extends Function.ArgDrivenSingleFunction<String, List<String>> {
+
+        private final Pattern pattern;
+
+        private boundSplit(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected Optional<List<String>> applySingle(final String separator, final Object source) {
+            return Strings.split(separator, pattern, source);
         }
     }
 
@@ -247,35 +312,72 @@ public class Strings {
         }
     }
 
-    public static final class replaceAll extends Function.ListFunction {
-        @Override
-        protected Optional<Object> applyList(List<Object> args) {
+    /**
+     * Same as source.replaceAll(regex, replacement), with the regex compiled at most once.
+     */
+    private static Optional<Object> replaceAll(List<Object> args, Pattern boundPattern) {
 
-            // There is only one path that leads to success and many
-            //  ways for this to fail.   So using a do/while loop
-            //  to make the bailing easy.
-            do {
+        // There is only one path that leads to success and many
+        //  ways for this to fail.   So using a do/while loop
+        //  to make the bailing easy.
+        do {
 
-                if (args.size() != 3) {
-                    break;
-                }
+            if (args.size() != 3) {
+                break;
+            }
 
-                if (!(args.get(0) instanceof String source &&
-                        args.get(1) instanceof String regex &&
-                        args.get(2) instanceof String replacement)) {
-                    break;
-                }
+            if (!(args.get(0) instanceof String source &&
+                    args.get(1) instanceof String regex &&
+                    args.get(2) instanceof String replacement)) {
+                break;
+            }
+
+            try {
+                Pattern pattern = boundPattern != null && regex.equals(boundPattern.pattern()) ? boundPattern : PatternCache.compile(regex);
+                return Optional.of(pattern.matcher(source).replaceAll(replacement));
+            } catch (PatternSyntaxException e) {
+                // if the regex is invalid, we just return an empty Optional
+                break;
+            }
 
+        } while (false);
+
+        return Optional.empty();
+    }
+
+    public static final class replaceAll extends Function.ListFunction {
+        @Override
+        protected Optional<Object> applyList(List<Object> args) {
+            return Strings.replaceAll(args, null);
+        }
+
+        /**
+         * A literal regex, as in "=replaceAll(@(1,value),'[^a-z]','')", gets compiled here, once.
+         */
+        @Override
+        public Function bind(Object[] args, boolean[] literal) {
+            if (args.length == 3 && literal[1] && args[1] instanceof String regex) {
                 try {
-                    return Optional.of(source.replaceAll(regex, replacement));
+                    return new boundReplaceAll(Pattern.compile(regex));
                 } catch (PatternSyntaxException e) {
-                    // if the regex is invalid, we just return an empty Optional
-                    break;
+                    // leave it to fail at transform time, as it always has
                 }
+            }
+            return this;
+        }
+    }
 
-            } while (false);
+    private static final class boundReplaceAll extends Function.ListFunction {
 
-            return Optional.empty();
+        private final Pattern pattern;
+
+        private boundReplaceAll(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        protected Optional<Object> applyList(List<Object> args) {
+            return Strings.replaceAll(args, pattern);
         }
     }
 }
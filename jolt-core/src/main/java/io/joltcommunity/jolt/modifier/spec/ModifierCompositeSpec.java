@@ -22,6 +22,7 @@ import io.joltcommunity.jolt.common.ExecutionStrategy;
 import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.pathelement.*;
 import io.joltcommunity.jolt.common.spec.BaseSpec;
+import io.joltcommunity.jolt.common.spec.LiteralTable;
 import io.joltcommunity.jolt.common.spec.OrderedCompositeSpec;
 import io.joltcommunity.jolt.common.tree.ArrayMatchedElement;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
@@ -53,6 +54,7 @@ public class ModifierCompositeSpec extends ModifierSpec implements OrderedCompos
 
     private final Map<String, ModifierSpec> literalChildren;
     private final List<ModifierSpec> computedChildren;
+    private final LiteralTable<ModifierSpec> literalTable;
     private final ExecutionStrategy executionStrategy;
     private final DataType specDataType;
 
@@ -118,6 +120,7 @@ public class ModifierCompositeSpec extends ModifierSpec implements OrderedCompos
         computed.trimToSize();
 
         literalChildren = Collections.unmodifiableMap(literals);
+        literalTable = new LiteralTable<>(literalChildren);
         computedChildren = Collections.unmodifiableList(computed);
 
         // extract generic execution strategy
@@ -161,7 +164,7 @@ public class ModifierCompositeSpec extends ModifierSpec implements OrderedCompos
         // Handle the rest of the children
         executionStrategy.process(this, inputOptional, walkedPath, null, context);
         // We are done, so remove ourselves from the walkedPath
-        walkedPath.removeLastElement();
+        walkedPath.dropLastElement();
     }
 
     @Override
@@ -169,6 +172,11 @@ public class ModifierCompositeSpec extends ModifierSpec implements OrderedCompos
         return literalChildren;
     }
 
+    @Override
+    public LiteralTable<ModifierSpec> getLiteralTable() {
+        return literalTable;
+    }
+
     @Override
     public List<? extends BaseSpec> getComputedChildren() {
         return computedChildren;
@@ -21,38 +21,39 @@ import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.SpecStringParser;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
 import io.joltcommunity.jolt.common.tree.WalkedPath;
+import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.modifier.OpMode;
 import io.joltcommunity.jolt.modifier.ModifierSpecBuilder;
-import io.joltcommunity.jolt.modifier.function.Function;
 import io.joltcommunity.jolt.modifier.function.FunctionArg;
 import io.joltcommunity.jolt.modifier.function.FunctionEvaluator;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 @SuppressWarnings("deprecated")
 public class ModifierLeafSpec extends ModifierSpec {
 
-    private final List<FunctionEvaluator> functionEvaluatorList;
+    private final FunctionEvaluator[] functionEvaluators;
 
     @SuppressWarnings("unchecked")
-    public ModifierLeafSpec(final String rawJsonKey, Object rhsObj, final OpMode opMode, final Map<String, Function> functionsMap) {
+    public ModifierLeafSpec(final String rawJsonKey, Object rhsObj, final OpMode opMode, final FunctionRegistry functions) {
         super(rawJsonKey, opMode);
-        functionEvaluatorList = new LinkedList<>();
+        List<FunctionEvaluator> functionEvaluatorList = new ArrayList<>();
 
         FunctionEvaluator functionEvaluator;
 
         // "key": "expression1"
         if ((rhsObj instanceof String)) {
-            functionEvaluator = buildFunctionEvaluator((String) rhsObj, functionsMap);
+            functionEvaluator = buildFunctionEvaluator((String) rhsObj, functions);
             functionEvaluatorList.add(functionEvaluator);
         }
         // "key": ["expression1", "expression2", "expression3"]
         else if (rhsObj instanceof List rhsList && !rhsList.isEmpty()) {
             for (Object rhs : rhsList) {
                 if (rhs instanceof String) {
-                    functionEvaluator = buildFunctionEvaluator(rhs.toString(), functionsMap);
+                    functionEvaluator = buildFunctionEvaluator(rhs.toString(), functions);
                     functionEvaluatorList.add(functionEvaluator);
                 } else {
                     functionEvaluator = FunctionEvaluator.forArgEvaluation(FunctionArg.forLiteral(rhs, false));
@@ -65,41 +66,50 @@ public class ModifierLeafSpec extends ModifierSpec {
             functionEvaluator = FunctionEvaluator.forArgEvaluation(FunctionArg.forLiteral(rhsObj, false));
             functionEvaluatorList.add(functionEvaluator);
         }
+
+        functionEvaluators = functionEvaluatorList.toArray(new FunctionEvaluator[0]);
     }
 
-    private static FunctionEvaluator buildFunctionEvaluator(final String rhs, final Map<String, Function> functionsMap) {
-        final FunctionEvaluator functionEvaluator;
+    private static FunctionEvaluator buildFunctionEvaluator(final String rhs, final FunctionRegistry functions) {
         // "key": "@0" --- evaluate expression then set
         if (!rhs.startsWith(ModifierSpecBuilder.FUNCTION)) {
             return FunctionEvaluator.forArgEvaluation(constructSingleArg(rhs, false));
-        } else {
-            String functionName;
-            // "key": "=abs" --- call function with current value then set output if present
-            if (!rhs.contains("(") && !rhs.endsWith(")")) {
-                functionName = rhs.substring(ModifierSpecBuilder.FUNCTION.length());
-                return FunctionEvaluator.forFunctionEvaluation(functionsMap.get(functionName));
-            }
-            // "key": "=abs(@(1,&0))" --- evaluate expression then call function with
-            //                            expression-output, then set output if present
-            else {
-                String fnString = rhs.substring(ModifierSpecBuilder.FUNCTION.length());
-                List<String> fnArgs = SpecStringParser.parseFunctionArgs(fnString);
-                functionName = fnArgs.remove(0);
-                functionEvaluator = FunctionEvaluator.forFunctionEvaluation(functionsMap.get(functionName), constructArgs(fnArgs));
-            }
         }
-        return functionEvaluator;
+
+        String functionName;
+        FunctionArg[] functionArgs;
+        // "key": "=abs" --- call function with current value then set output if present
+        if (!rhs.contains("(") && !rhs.endsWith(")")) {
+            functionName = rhs.substring(ModifierSpecBuilder.FUNCTION.length());
+            functionArgs = new FunctionArg[0];
+        }
+        // "key": "=abs(@(1,&0))" --- evaluate expression then call function with
+        //                            expression-output, then set output if present
+        else {
+            String fnString = rhs.substring(ModifierSpecBuilder.FUNCTION.length());
+            List<String> fnArgs = SpecStringParser.parseFunctionArgs(fnString);
+            functionName = fnArgs.remove(0);
+            functionArgs = constructArgs(fnArgs);
+        }
+
+        FunctionRegistry.Definition definition = functions.get(functionName);
+        if (definition == null) {
+            throw new SpecException("Modifier spec calls unknown function '" + functionName + "' in : " + rhs);
+        }
+        if (functions.isStrict() && !definition.acceptsArgs(functionArgs)) {
+            throw new SpecException("Modifier spec calls function '" + functionName + "' with " + functionArgs.length + " args, it takes between "
+                    + definition.getMinArgs() + " and " + definition.getMaxArgs() + " : " + rhs);
+        }
+        return FunctionEvaluator.forFunctionEvaluation(definition, functionArgs);
     }
 
-    private static Optional<Object> getFirstAvailable(List<FunctionEvaluator> functionEvaluatorList, Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
+    private static Optional<Object> getFirstAvailable(FunctionEvaluator[] functionEvaluators, Optional<Object> inputOptional, WalkedPath walkedPath, Map<String, Object> context) {
         Optional<Object> valueOptional = Optional.empty();
-        for (FunctionEvaluator functionEvaluator : functionEvaluatorList) {
-            try {
-                valueOptional = functionEvaluator.evaluate(inputOptional, walkedPath, context);
-                if (valueOptional.isPresent()) {
-                    return valueOptional;
-                }
-            } catch (Exception ignored) {
+        for (FunctionEvaluator functionEvaluator : functionEvaluators) {
+            // evaluate does not throw, a failing function call is an empty result
+            valueOptional = functionEvaluator.evaluate(inputOptional, walkedPath, context);
+            if (valueOptional.isPresent()) {
+                return valueOptional;
             }
         }
         return valueOptional;
@@ -131,12 +141,12 @@ public class ModifierLeafSpec extends ModifierSpec {
 
         walkedPath.add(inputOptional.get(), thisLevel);
 
-        Optional<Object> valueOptional = getFirstAvailable(functionEvaluatorList, inputOptional, walkedPath, context);
+        Optional<Object> valueOptional = getFirstAvailable(functionEvaluators, inputOptional, walkedPath, context);
 
         if (valueOptional.isPresent()) {
             setData(parent, thisLevel, valueOptional.get(), opMode);
         }
 
-        walkedPath.removeLastElement();
+        walkedPath.dropLastElement();
     }
 }
@@ -19,6 +19,7 @@ package io.joltcommunity.jolt.removr;
 import io.joltcommunity.jolt.SpecDriven;
 import io.joltcommunity.jolt.Transform;
 import io.joltcommunity.jolt.exception.SpecException;
+import io.joltcommunity.jolt.jfr.SpecCompileEvent;
 import io.joltcommunity.jolt.removr.spec.RemovrCompositeSpec;
 import jakarta.inject.Inject;
 
@@ -182,6 +183,8 @@ import java.util.Map;
  * index "1" to become the new "0".  Because of this, Remover matches all the literal/explicit
  * indices first, sorts them from Biggest to Smallest, then does the removing.
  * <p/>
+ * Removr holds no per-call state, so an instance may be shared between threads.  The removing is done
+ * in place though, so concurrent calls must not be given the same input object.
  */
 public class Removr implements SpecDriven, Transform {
 
@@ -189,6 +192,7 @@ public class Removr implements SpecDriven, Transform {
 
     @Inject
     public Removr(Object spec) {
+        SpecCompileEvent compileEvent = SpecCompileEvent.start();
         if (spec == null) {
             throw new SpecException("Removr expected a spec of Map type, got 'null'.");
         }
@@ -197,6 +201,8 @@ public class Removr implements SpecDriven, Transform {
         }
 
         rootSpec = new RemovrCompositeSpec(ROOT_KEY, (Map<String, Object>) spec);
+
+        compileEvent.finish(getClass(), spec);
     }
 
     /**
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.shiftr;
+
+import io.joltcommunity.jolt.SpecDriven;
+import io.joltcommunity.jolt.Transform;
+import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.common.PathEvaluatingTraversal;
+import io.joltcommunity.jolt.common.pathelement.*;
+import io.joltcommunity.jolt.common.tree.MatchedElement;
+import io.joltcommunity.jolt.common.tree.WalkedPath;
+import io.joltcommunity.jolt.shiftr.spec.ShiftrCompositeSpec;
+import io.joltcommunity.jolt.shiftr.spec.ShiftrLeafSpec;
+import io.joltcommunity.jolt.shiftr.spec.ShiftrSpec;
+
+import java.util.*;
+
+/**
+ * A Shiftr compiled down to direct Map / List gets and puts, for specs where every input key is
+ * known when the spec is built.
+ * <p>
+ * That is the case when every LHS key is a literal (OR keys are fine, they are just several literals),
+ * or a "@", "$" or "#value" leaf.  Then every key on the path to a leaf is a constant, so each
+ * "&" reference in the output paths resolves to a constant as well, and no WalkedPath, PathElement
+ * matching or Traversr is needed when transforming.
+ * <p>
+ * Specs with "*", "&" or transpose "@(...)" LHS keys, or output paths with arrays, "#" or transposes,
+ * are not compilable, in which case {@link #compile(Object)} returns empty and the regular
+ * {@link io.joltcommunity.jolt.Shiftr} should be used.
+ * <p>
+ * Output is identical to what Shiftr produces for the same spec.
+ */
+public final class DirectShiftr implements Transform {
+
+    private final Composite root;
+
+    private DirectShiftr(Composite root) {
+        this.root = root;
+    }
+
+    /**
+     * @return the compiled Shiftr, or empty if the spec uses features that can not be resolved at build time
+     * @throws io.joltcommunity.jolt.exception.SpecException for a malformed spec, like Shiftr does
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<DirectShiftr> compile(Object spec) {
+        if (!(spec instanceof Map)) {
+            return Optional.empty();
+        }
+
+        ShiftrCompositeSpec rootSpec = new ShiftrCompositeSpec(SpecDriven.ROOT_KEY, (Map<String, Object>) spec);
+
+        // Mirror the WalkedPath that Shiftr builds : the root level, then the root spec itself
+        WalkedPath walkedPath = new WalkedPath();
+        walkedPath.add(null, new MatchedElement(SpecDriven.ROOT_KEY));
+
+        Composite root = compileComposite(rootSpec, new MatchedElement(SpecDriven.ROOT_KEY), walkedPath);
+        return root == null ? Optional.empty() : Optional.of(new DirectShiftr(root));
+    }
+
+    @Override
+    public Object transform(Object input) {
+        Map<String, Object> output = new HashMap<>();
+        root.apply(input, output);
+        return output.get(SpecDriven.ROOT_KEY);
+    }
+
+    /**
+     * @return null if the spec can not be compiled
+     */
+    private static Composite compileComposite(ShiftrCompositeSpec spec, MatchedElement thisLevel, WalkedPath walkedPath) {
+
+        if (!spec.getComputedChildren().isEmpty() || !(spec.getPathElement() instanceof LiteralPathElement)) {
+            return null;
+        }
+
+        walkedPath.add(null, thisLevel);
+        try {
+            List<Leaf> special = new ArrayList<>(spec.getSpecialChildren().size());
+            for (ShiftrSpec child : spec.getSpecialChildren()) {
+                MatchablePathElement pe = child.getPathElement();
+                if (!(pe instanceof AtPathElement || pe instanceof DollarPathElement || pe instanceof HashPathElement)) {
+                    return null;
+                }
+
+                MatchedElement childLevel = pe.match(thisLevel.getRawKey(), walkedPath);
+                // "@" writes the input of its parent, "$" and "#" write their key
+                Object constant = pe instanceof AtPathElement ? null : childLevel.getCanonicalForm();
+                Leaf leaf = compileLeaf((ShiftrLeafSpec) child, constant, childLevel, walkedPath);
+                if (leaf == null) {
+                    return null;
+                }
+                special.add(leaf);
+            }
+
+            Map<String, ShiftrSpec> literals = spec.getLiteralChildren();
+            String[] keys = new String[literals.size()];
+            int[] indices = new int[literals.size()];
+            Step[] children = new Step[literals.size()];
+            int i = 0;
+            for (Map.Entry<String, ShiftrSpec> entry : literals.entrySet()) {
+                MatchedElement childLevel = new MatchedElement(entry.getKey());
+                Step child;
+                if (entry.getValue() instanceof ShiftrCompositeSpec composite) {
+                    child = compileComposite(composite, childLevel, walkedPath);
+                } else {
+                    child = compileLeaf((ShiftrLeafSpec) entry.getValue(), null, childLevel, walkedPath);
+                }
+                if (child == null) {
+                    return null;
+                }
+                keys[i] = entry.getKey();
+                indices[i] = toIndex(entry.getKey());
+                children[i] = child;
+                i++;
+            }
+
+            return new Composite(special.toArray(new Leaf[0]), keys, indices, children);
+        } finally {
+            walkedPath.dropLastElement();
+        }
+    }
+
+    /**
+     * @return null if the output paths of the spec can not be compiled
+     */
+    private static Leaf compileLeaf(ShiftrLeafSpec spec, Object constant, MatchedElement thisLevel, WalkedPath walkedPath) {
+
+        walkedPath.add(null, thisLevel);
+        try {
+            List<? extends PathEvaluatingTraversal> writers = spec.getShiftrWriters();
+            String[][] paths = new String[writers.size()][];
+            for (int w = 0; w < paths.length; w++) {
+                PathEvaluatingTraversal writer = writers.get(w);
+                String[] path = new String[writer.size()];
+                for (int i = 0; i < path.length; i++) {
+                    PathElement pe = writer.get(i);
+                    if (!(pe instanceof LiteralPathElement || pe instanceof AmpPathElement)) {
+                        return null;
+                    }
+                    try {
+                        path[i] = ((EvaluatablePathElement) pe).evaluate(walkedPath);
+                    } catch (IndexOutOfBoundsException e) {
+                        // a reference to a sub key or a level that does not exist, leave it to Shiftr
+                        return null;
+                    }
+                }
+                paths[w] = path;
+            }
+            return new Leaf(constant, paths);
+        } finally {
+            walkedPath.dropLastElement();
+        }
+    }
+
+    private static int toIndex(String key) {
+        try {
+            return Math.max(Integer.parseInt(key), -1);
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    private abstract static class Step {
+        abstract void apply(Object input, Map<String, Object> output);
+    }
+
+    private static final class Leaf extends Step {
+
+        // null means write the input
+        private final Object constant;
+        private final String[][] paths;
+
+        Leaf(Object constant, String[][] paths) {
+            this.constant = constant;
+            this.paths = paths;
+        }
+
+        @Override
+        void apply(Object input, Map<String, Object> output) {
+            Object data = constant == null ? input : constant;
+            for (String[] path : paths) {
+                write(path, data, output);
+            }
+        }
+
+        /**
+         * Same semantics as a ShiftrWriter with a literal path : create missing Maps on the way,
+         * give up if something else is in the way, and list-ize on collision at the end.
+         */
+        @SuppressWarnings("unchecked")
+        private static void write(String[] path, Object data, Map<String, Object> output) {
+            Map<String, Object> tree = output;
+            int last = path.length - 1;
+            for (int i = 0; i < last; i++) {
+                Object sub = tree.get(path[i]);
+                if (sub == null) {
+                    sub = new LinkedHashMap<>();
+                    tree.put(path[i], sub);
+                } else if (!(sub instanceof Map)) {
+                    return;
+                }
+                tree = (Map<String, Object>) sub;
+            }
+
+            String key = path[last];
+            Object existing = tree.get(key);
+            if (existing == null) {
+                tree.put(key, data);
+            } else if (existing instanceof List) {
+                ((List<Object>) existing).add(data);
+            } else {
+                List<Object> temp = new ArrayList<>();
+                temp.add(existing);
+                temp.add(data);
+                tree.put(key, temp);
+            }
+        }
+    }
+
+    private static final class Composite extends Step {
+
+        private final Leaf[] special;
+        private final String[] keys;
+        // keys as list indices, or -1 for keys that can never match a list index
+        private final int[] indices;
+        private final Step[] children;
+        private final Map<String, Step> lookup;
+
+        Composite(Leaf[] special, String[] keys, int[] indices, Step[] children) {
+            this.special = special;
+            this.keys = keys;
+            this.indices = indices;
+            this.children = children;
+            this.lookup = new HashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                lookup.put(keys[i], children[i]);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void apply(Object input, Map<String, Object> output) {
+
+            for (Leaf leaf : special) {
+                leaf.apply(input, output);
+            }
+
+            if (input instanceof Map) {
+                Map<String, Object> inputMap = (Map<String, Object>) input;
+                for (int i = 0; i < keys.length; i++) {
+                    Object subInput = inputMap.get(keys[i]);
+                    if (subInput != null || inputMap.containsKey(keys[i])) {
+                        children[i].apply(subInput, output);
+                    }
+                }
+            } else if (input instanceof List) {
+                List<Object> inputList = (List<Object>) input;
+                for (int i = 0; i < keys.length; i++) {
+                    if (indices[i] >= 0 && indices[i] < inputList.size()) {
+                        children[i].apply(inputList.get(indices[i]), output);
+                    }
+                }
+            } else if (input != null) {
+                // a scalar matches the literal equal to it, which then has no input of its own
+                Step child = lookup.get(input.toString());
+                if (child != null) {
+                    child.apply(null, output);
+                }
+            }
+        }
+    }
+}
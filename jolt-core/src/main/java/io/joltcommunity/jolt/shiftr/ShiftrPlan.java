@@ -0,0 +1,432 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.shiftr;
+
+import io.joltcommunity.jolt.common.ExecutionStrategy;
+import io.joltcommunity.jolt.common.IndexKeys;
+import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.common.PathEvaluatingTraversal;
+import io.joltcommunity.jolt.common.pathelement.*;
+import io.joltcommunity.jolt.common.spec.LiteralTable;
+import io.joltcommunity.jolt.common.tree.MatchedElement;
+import io.joltcommunity.jolt.common.tree.WalkedPath;
+import io.joltcommunity.jolt.shiftr.spec.ShiftrCompositeSpec;
+import io.joltcommunity.jolt.shiftr.spec.ShiftrLeafSpec;
+import io.joltcommunity.jolt.shiftr.spec.ShiftrSpec;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Execution plan for a Shiftr spec, compiled once from the ShiftrCompositeSpec tree when the Shiftr is built.
+ * <p>
+ * The spec tree is the parsed form of the spec, the plan is the form that runs against the input.
+ * All the work that only depends on the spec is done here, at compile time, rather than at every node of
+ * every transform :
+ * <ul>
+ * <li>the children of each node are pre-classified into special, literal and computed arrays</li>
+ * <li>literal children have a {@link LiteralTable}, and their keys are pre-parsed into list indices</li>
+ * <li>computed children are kept in their precedence order</li>
+ * <li>the ExecutionStrategy of each node is resolved to flags, and where the data of each leaf
+ * comes from is resolved to a {@link Source}, so there are no instanceof checks on PathElements</li>
+ * <li>the output writers of each leaf are pre-resolved into an array</li>
+ * <li>star keys that no reference below them reads the capture groups of skip capturing them</li>
+ * </ul>
+ * <p>
+ * Shiftr never distinguishes a missing value from a null one, so the plan passes plain values around
+ * instead of wrapping each of them in an Optional.
+ */
+public final class ShiftrPlan {
+
+    private final CompositeNode root;
+
+    private ShiftrPlan(CompositeNode root) {
+        this.root = root;
+    }
+
+    public static ShiftrPlan compile(ShiftrCompositeSpec rootSpec) {
+        return new ShiftrPlan(new CompositeNode(rootSpec));
+    }
+
+    /**
+     * Runs the plan against the input, writing to output.
+     *
+     * @return true if the root of the spec matched the rootKey
+     */
+    public boolean execute(String rootKey, Object input, WalkedPath walkedPath, Map<String, Object> output) {
+        return root.apply(rootKey, input, walkedPath, output);
+    }
+
+    private static Node compile(ShiftrSpec spec) {
+        if (spec instanceof ShiftrCompositeSpec composite) {
+            return new CompositeNode(composite);
+        }
+        return new LeafNode((ShiftrLeafSpec) spec);
+    }
+
+    private static Node[] compileAll(List<ShiftrSpec> specs) {
+        Node[] nodes = new Node[specs.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(specs.get(i));
+        }
+        return nodes;
+    }
+
+    /**
+     * Where a leaf gets the data it writes to the output.
+     */
+    private enum Source {
+        /**
+         * "$" and "#" : the canonical form of the matched key.
+         */
+        KEY,
+        /**
+         * "@" : the input of the parent, which does not count as a match of the input key.
+         */
+        PARENT,
+        /**
+         * "@(2,foo)" : looked up from the WalkedPath, the leaf bails if nothing is found.
+         */
+        TRANSPOSE,
+        /**
+         * Anything else : the input, and the leaf "handles" the input key.
+         */
+        INPUT
+    }
+
+    private abstract static class Node {
+
+        protected final MatchablePathElement pathElement;
+
+        // true if this node, or anything below it, reads the capture groups of a MatchedElement up the WalkedPath
+        private boolean readsKeyGroups;
+
+        // set when this node is a star that nothing below it reads the captures of, so matching can skip capturing
+        private StarPathElement uncapturedStar;
+
+        protected Node(MatchablePathElement pathElement) {
+            this.pathElement = pathElement;
+        }
+
+        /**
+         * Called once the children / writers of this node are compiled : References only ever read MatchedElements
+         * up the WalkedPath, so the captures of a star can only be read by the star itself and the nodes below it.
+         */
+        protected final void analyzeKeyGroups(boolean subtreeReadsKeyGroups) {
+            readsKeyGroups = pathElement.readsKeyGroups() || subtreeReadsKeyGroups;
+            if (!readsKeyGroups && pathElement instanceof StarPathElement star) {
+                uncapturedStar = star;
+            }
+        }
+
+        protected final MatchedElement match(String inputKey, WalkedPath walkedPath) {
+            if (uncapturedStar != null) {
+                return uncapturedStar.stringMatch(inputKey) ? new MatchedElement(inputKey) : null;
+            }
+            return pathElement.match(inputKey, walkedPath);
+        }
+
+        protected static boolean anyReadsKeyGroups(Node[] nodes) {
+            for (Node node : nodes) {
+                if (node.readsKeyGroups) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return true if this node "handles" the inputKey such that no sibling nodes need to see it
+         */
+        abstract boolean apply(String inputKey, Object input, WalkedPath walkedPath, Map<String, Object> output);
+    }
+
+    private static final class LeafNode extends Node {
+
+        private final Source source;
+        private final TransposePathElement transpose;
+        private final PathEvaluatingTraversal[] writers;
+
+        LeafNode(ShiftrLeafSpec spec) {
+            super(spec.getPathElement());
+
+            if (pathElement instanceof DollarPathElement || pathElement instanceof HashPathElement) {
+                source = Source.KEY;
+            } else if (pathElement instanceof AtPathElement) {
+                source = Source.PARENT;
+            } else if (pathElement instanceof TransposePathElement) {
+                source = Source.TRANSPOSE;
+            } else {
+                source = Source.INPUT;
+            }
+            transpose = source == Source.TRANSPOSE ? (TransposePathElement) pathElement : null;
+            writers = spec.getShiftrWriters().toArray(new PathEvaluatingTraversal[0]);
+
+            boolean writersReadKeyGroups = false;
+            for (PathEvaluatingTraversal writer : writers) {
+                writersReadKeyGroups |= writer.readsKeyGroups();
+            }
+            analyzeKeyGroups(writersReadKeyGroups);
+        }
+
+        @Override
+        boolean apply(String inputKey, Object input, WalkedPath walkedPath, Map<String, Object> output) {
+
+            MatchedElement thisLevel = match(inputKey, walkedPath);
+            if (thisLevel == null) {
+                return false;
+            }
+
+            Object data;
+            switch (source) {
+                case KEY:
+                    data = thisLevel.getCanonicalForm();
+                    break;
+                case TRANSPOSE:
+                    Optional<Object> evaledData = transpose.objectEvaluate(walkedPath);
+                    if (!evaledData.isPresent()) {
+                        return false;
+                    }
+                    data = evaledData.get();
+                    break;
+                default:
+                    data = input;
+            }
+
+            // Add our the MatchedElement for this level, so that write path References can use it as &(0,0)
+            walkedPath.add(input, thisLevel);
+
+            for (PathEvaluatingTraversal writer : writers) {
+                writer.write(data, output, walkedPath);
+            }
+
+            walkedPath.dropLastElement();
+
+            if (source != Source.INPUT) {
+                return false;
+            }
+
+            // we were a "real" child, so increment the matchCount of our parent
+            walkedPath.lastElement().getMatchedElement().incrementHashCount();
+            return true;
+        }
+    }
+
+    private static final class CompositeNode extends Node {
+
+        private final TransposePathElement transpose;
+
+        private final Node[] specialChildren;
+
+        private final LiteralTable<Node> literals;
+
+        private final Node[] computedChildren;
+
+        // the ExecutionStrategy of the spec, resolved to what we have to do for each input
+        private final boolean conflict;
+        private final boolean availableLiterals;
+        private final boolean computed;
+
+        CompositeNode(ShiftrCompositeSpec spec) {
+            super(spec.getPathElement());
+
+            transpose = pathElement instanceof TransposePathElement ? (TransposePathElement) pathElement : null;
+
+            specialChildren = compileAll(spec.getSpecialChildren());
+
+            Map<String, Node> literalNodes = new LinkedHashMap<>();
+            for (Map.Entry<String, ShiftrSpec> entry : spec.getLiteralChildren().entrySet()) {
+                literalNodes.put(entry.getKey(), compile(entry.getValue()));
+            }
+            literals = new LiteralTable<>(literalNodes);
+
+            computedChildren = compileAll(spec.getComputedChildren());
+
+            ExecutionStrategy strategy = spec.determineExecutionStrategy();
+            conflict = strategy == ExecutionStrategy.CONFLICT;
+            availableLiterals = strategy == ExecutionStrategy.AVAILABLE_LITERALS ||
+                    strategy == ExecutionStrategy.AVAILABLE_LITERALS_WITH_COMPUTED;
+            computed = strategy == ExecutionStrategy.COMPUTED ||
+                    strategy == ExecutionStrategy.AVAILABLE_LITERALS_WITH_COMPUTED;
+
+            boolean literalsReadKeyGroups = false;
+            for (int i = 0; i < literals.size(); i++) {
+                literalsReadKeyGroups |= literals.getValue(i).readsKeyGroups;
+            }
+            analyzeKeyGroups(anyReadsKeyGroups(specialChildren) || literalsReadKeyGroups || anyReadsKeyGroups(computedChildren));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean apply(String inputKey, Object input, WalkedPath walkedPath, Map<String, Object> output) {
+
+            MatchedElement thisLevel = match(inputKey, walkedPath);
+            if (thisLevel == null) {
+                return false;
+            }
+
+            // If we are a TransposePathElement, try to swap the "input" with what we lookup from the Transpose
+            if (transpose != null) {
+                Optional<Object> optional = transpose.objectEvaluate(walkedPath);
+                if (!optional.isPresent()) {
+                    return false;
+                }
+                input = optional.get();
+            }
+
+            // add ourselves to the path, so that our children can reference us
+            walkedPath.add(input, thisLevel);
+
+            // Handle any special / key based children first, but don't have them block anything
+            for (Node special : specialChildren) {
+                special.apply(inputKey, input, walkedPath, output);
+            }
+
+            // Handle the rest of the children
+            if (input instanceof Map) {
+                processMap((Map<String, Object>) input, walkedPath, output);
+            } else if (input instanceof List) {
+                processList((List<Object>) input, walkedPath, output);
+            } else if (input != null) {
+                // if not a map or list, must be a scalar
+                processScalar(input.toString(), walkedPath, output);
+            }
+
+            // We are done, so remove ourselves from the walkedPath
+            walkedPath.dropLastElement();
+
+            // we matched so increment the matchCount of our parent
+            walkedPath.lastElement().getMatchedElement().incrementHashCount();
+
+            return true;
+        }
+
+        private void processMap(Map<String, Object> inputMap, WalkedPath walkedPath, Map<String, Object> output) {
+
+            if (conflict) {
+                for (Map.Entry<String, Object> inputEntry : inputMap.entrySet()) {
+                    Node literalChild = literals.get(inputEntry.getKey());
+                    if (literalChild != null) {
+                        literalChild.apply(inputEntry.getKey(), inputEntry.getValue(), walkedPath, output);
+                    } else {
+                        applyComputed(inputEntry.getKey(), inputEntry.getValue(), walkedPath, output);
+                    }
+                }
+                return;
+            }
+
+            if (availableLiterals) {
+                if (inputMap.size() < literals.size()) {
+                    processSparseMap(inputMap, walkedPath, output);
+                } else {
+                    for (int i = 0; i < literals.size(); i++) {
+                        String key = literals.getKey(i);
+                        Object subInput = inputMap.get(key);
+                        // Do not work if the value is missing in the input map
+                        if (subInput != null || inputMap.containsKey(key)) {
+                            literals.getValue(i).apply(key, subInput, walkedPath, output);
+                        }
+                    }
+                }
+            }
+
+            if (computed) {
+                for (Map.Entry<String, Object> inputEntry : inputMap.entrySet()) {
+                    applyComputed(inputEntry.getKey(), inputEntry.getValue(), walkedPath, output);
+                }
+            }
+        }
+
+        /**
+         * Wide spec, narrow input : probe the literal table with each input key instead of probing the input
+         * with each literal, then apply the matches in spec order, as that is the order the output is written in.
+         */
+        private void processSparseMap(Map<String, Object> inputMap, WalkedPath walkedPath, Map<String, Object> output) {
+
+            int[] matches = new int[inputMap.size()];
+            int matchCount = 0;
+            for (String key : inputMap.keySet()) {
+                int index = literals.indexOf(key);
+                if (index >= 0) {
+                    matches[matchCount++] = index;
+                }
+            }
+
+            Arrays.sort(matches, 0, matchCount);
+
+            for (int i = 0; i < matchCount; i++) {
+                String key = literals.getKey(matches[i]);
+                literals.getValue(matches[i]).apply(key, inputMap.get(key), walkedPath, output);
+            }
+        }
+
+        private void processList(List<Object> inputList, WalkedPath walkedPath, Map<String, Object> output) {
+
+            int size = inputList.size();
+
+            if (availableLiterals) {
+                for (int i = 0; i < literals.size(); i++) {
+                    int index = literals.getListIndex(i);
+                    // Do not work if the index is outside of the input list
+                    if (index >= 0 && index < size) {
+                        literals.getValue(i).apply(literals.getKey(i), inputList.get(index), walkedPath, output);
+                    }
+                }
+            }
+
+            if (conflict || computed) {
+                for (int index = 0; index < size; index++) {
+                    String subKeyStr = IndexKeys.toKey(index);
+                    Object subInput = inputList.get(index);
+
+                    Node literalChild = conflict ? literals.get(subKeyStr) : null;
+                    if (literalChild != null) {
+                        literalChild.apply(subKeyStr, subInput, walkedPath, output);
+                    } else {
+                        applyComputed(subKeyStr, subInput, walkedPath, output);
+                    }
+                }
+            }
+        }
+
+        private void processScalar(String scalarInput, WalkedPath walkedPath, Map<String, Object> output) {
+
+            Node literalChild = availableLiterals || conflict ? literals.get(scalarInput) : null;
+            if (literalChild != null) {
+                literalChild.apply(scalarInput, null, walkedPath, output);
+                if (conflict) {
+                    return;
+                }
+            }
+
+            if (conflict || computed) {
+                applyComputed(scalarInput, null, walkedPath, output);
+            }
+        }
+
+        private void applyComputed(String subKeyStr, Object subInput, WalkedPath walkedPath, Map<String, Object> output) {
+            // computedChildren are sorted in priority order, so stop at the first one that handles the key
+            for (Node computedChild : computedChildren) {
+                if (computedChild.apply(subKeyStr, subInput, walkedPath, output)) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import io.joltcommunity.jolt.common.ExecutionStrategy;
 import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.pathelement.*;
 import io.joltcommunity.jolt.common.spec.BaseSpec;
+import io.joltcommunity.jolt.common.spec.LiteralTable;
 import io.joltcommunity.jolt.common.spec.OrderedCompositeSpec;
 import io.joltcommunity.jolt.common.spec.SpecBuilder;
 import io.joltcommunity.jolt.common.tree.MatchedElement;
@@ -74,6 +75,7 @@ public class ShiftrCompositeSpec extends ShiftrSpec implements OrderedCompositeS
     private final List<ShiftrSpec> specialChildren;         // children that aren't actually triggered off the input data
     private final Map<String, ShiftrSpec> literalChildren;  // children that are simple exact matches against the input data
     private final List<ShiftrSpec> computedChildren;        // children that are regex matches against the input data
+    private final LiteralTable<ShiftrSpec> literalTable;
     private final ExecutionStrategy executionStrategy;
 
     public ShiftrCompositeSpec(String rawKey, Map<String, Object> spec) {
@@ -120,17 +122,27 @@ public class ShiftrCompositeSpec extends ShiftrSpec implements OrderedCompositeS
 
         specialChildren = Collections.unmodifiableList(special);
         literalChildren = Collections.unmodifiableMap(literals);
+        literalTable = new LiteralTable<>(literalChildren);
         computedChildren = Collections.unmodifiableList(computed);
 
         executionStrategy = determineExecutionStrategy();
     }
 
 
+    public List<ShiftrSpec> getSpecialChildren() {
+        return specialChildren;
+    }
+
     @Override
     public Map<String, ShiftrSpec> getLiteralChildren() {
         return literalChildren;
     }
 
+    @Override
+    public LiteralTable<ShiftrSpec> getLiteralTable() {
+        return literalTable;
+    }
+
     @Override
     public List<ShiftrSpec> getComputedChildren() {
         return computedChildren;
@@ -203,7 +215,7 @@ public class ShiftrCompositeSpec extends ShiftrSpec implements OrderedCompositeS
         executionStrategy.process(this, inputOptional, walkedPath, output, context);
 
         // We are done, so remove ourselves from the walkedPath
-        walkedPath.removeLastElement();
+        walkedPath.dropLastElement();
 
         // we matched so increment the matchCount of our parent
         walkedPath.lastElement().getMatchedElement().incrementHashCount();
@@ -76,6 +76,10 @@ public class ShiftrLeafSpec extends ShiftrSpec {
         shiftrWriters = Collections.unmodifiableList(writers);
     }
 
+    public List<? extends PathEvaluatingTraversal> getShiftrWriters() {
+        return shiftrWriters;
+    }
+
     /**
      * If this Spec matches the inputkey, then do the work of outputting data and return true.
      *
@@ -128,7 +132,7 @@ public class ShiftrLeafSpec extends ShiftrSpec {
             outputPath.write(data, output, walkedPath);
         }
 
-        walkedPath.removeLastElement();
+        walkedPath.dropLastElement();
 
         if (realChild) {
             // we were a "real" child, so increment the matchCount of our parent
@@ -18,9 +18,6 @@ package io.joltcommunity.jolt.traversr;
 
 import io.joltcommunity.jolt.common.Optional;
 
-import java.util.Arrays;
-import java.util.List;
-
 /**
  * Utility class for use in custom Transforms.
  * <p>
@@ -37,7 +34,7 @@ import java.util.List;
 public class SimpleTraversal<DataType> {
 
     private final SimpleTraversr traversr;
-    private final List<String> keys;
+    private final String[] keys;
 
     public SimpleTraversal(String humanReadablePath) {
         traversr = new SimpleTraversr(humanReadablePath);
@@ -55,7 +52,7 @@ public class SimpleTraversal<DataType> {
             }
         }
 
-        keys = Arrays.asList(keysArray);
+        keys = keysArray;
     }
 
     /**
@@ -58,12 +58,18 @@ import java.util.List;
  * parse any more objects.
  * <p>
  * The list of keys are all Strings, which ArrayTraversals will convert to Integers as needed.
+ * <p>
+ * The keys may also be given as a String[], which is walked with a simple loop rather than
+ * by handing an Iterator down the chain of Traversals.
  */
 public abstract class Traversr<DataType> {
 
     private final TraversalStep root;
     private final int traversalLength;
 
+    // the same Traversals as the "linked list" from root, indexed by position, so that array keys can be walked with a loop
+    private final TraversalStep<?, ?>[] steps;
+
     public Traversr(String humanPath) {
 
         String intermediatePath = humanPath.replace("[", ".[");
@@ -84,6 +90,7 @@ public abstract class Traversr<DataType> {
         }
         traversalLength = paths.length;
         root = rooty;
+        steps = toSteps(rooty, traversalLength);
     }
 
     /**
@@ -97,6 +104,17 @@ public abstract class Traversr<DataType> {
         }
         traversalLength = paths.size();
         root = rooty;
+        steps = toSteps(rooty, traversalLength);
+    }
+
+    private static TraversalStep<?, ?>[] toSteps(TraversalStep<?, ?> root, int length) {
+        TraversalStep<?, ?>[] steps = new TraversalStep<?, ?>[length];
+        TraversalStep<?, ?> step = root;
+        for (int index = 0; index < length; index++) {
+            steps[index] = step;
+            step = step.getChild();
+        }
+        return steps;
     }
 
     private TraversalStep makePathElement(String path, TraversalStep child) {
@@ -124,6 +142,16 @@ public abstract class Traversr<DataType> {
         return root.traverse(tree, TraversalStep.Operation.GET, keys.iterator(), null);
     }
 
+    /**
+     * Same as {@link #get(Object, List)}, but takes the keys as an array.
+     */
+    public Optional<DataType> get(Object tree, String[] keys) {
+
+        checkLength(keys);
+
+        return walk(tree, Operation.GET, keys, null);
+    }
+
     /**
      * @param tree tree of Map and List JSON structure to navigate
      * @param data JSON style data object you want to set
@@ -149,6 +177,21 @@ public abstract class Traversr<DataType> {
         return root.traverse(tree, TraversalStep.Operation.SET, keys.iterator(), data);
     }
 
+    /**
+     * Same as {@link #set(Object, List, Object)}, but takes the keys as an array.
+     * The array is only read, so callers may reuse it once this returns.
+     */
+    public Optional<DataType> set(Object tree, String[] keys, DataType data) {
+
+        checkLength(keys);
+
+        if (tree == null) {
+            return Optional.empty();
+        }
+
+        return walk(tree, Operation.SET, keys, data);
+    }
+
     /**
      * Note : Calling this method MAY modify the tree object by adding new Maps and Lists as needed
      * for the traversal.  This is determined by the behavior of the implementations of the
@@ -167,6 +210,58 @@ public abstract class Traversr<DataType> {
         return root.traverse(tree, TraversalStep.Operation.REMOVE, keys.iterator(), null);
     }
 
+    /**
+     * Same as {@link #remove(Object, List)}, but takes the keys as an array.
+     */
+    public Optional<DataType> remove(Object tree, String[] keys) {
+
+        checkLength(keys);
+
+        if (tree == null) {
+            return Optional.empty();
+        }
+
+        return walk(tree, Operation.REMOVE, keys, null);
+    }
+
+    private void checkLength(String[] keys) {
+        if (keys.length != traversalLength) {
+            throw new TraversrException("Traversal Path and number of keys mismatch, traversalLength:" + traversalLength + " numKeys:" + keys.length);
+        }
+    }
+
+    /**
+     * The loop equivalent of {@link TraversalStep#traverse}, which walks the key at index i with the Traversal at index i.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<DataType> walk(Object tree, Operation op, String[] keys, DataType data) {
+
+        int last = steps.length - 1;
+        for (int index = 0; ; index++) {
+
+            TraversalStep step = steps[index];
+            if (tree == null || !step.getStepType().isAssignableFrom(tree.getClass())) {
+                return Optional.empty();
+            }
+
+            if (index == last) {
+                // End of the Traversal so do the set or get
+                return switch (op) {
+                    case GET -> step.get(tree, keys[index]);
+                    case SET -> handleFinalSet(step, tree, keys[index], data);
+                    case REMOVE -> step.remove(tree, keys[index]);
+                };
+            }
+
+            // We just an intermediate step, so traverse and then hand over control to the next step
+            Optional<DataType> optSub = handleIntermediateGet(step, tree, keys[index], op);
+            if (!optSub.isPresent()) {
+                return Optional.empty();
+            }
+            tree = optSub.get();
+        }
+    }
+
     // TODO extract these methods to an interface, and then sublasses of Traverser like ShiftrTraversr can do the
     //  Swing style "I implement the interface and pass myself down" trick.
     //  Means we can still can have a ShiftrTraversr, but less of a an explicit dependency inversion going
@@ -31,12 +31,32 @@ public class ArrayTraversalStep<DataType> extends BaseTraversalStep<List<Object>
         super(traversr, child);
     }
 
-    private static void ensureArraySize(List<Object> list, Integer upperIndex) {
+    private static void ensureArraySize(List<Object> list, int upperIndex) {
         for (int sizing = list.size(); sizing <= upperIndex; sizing++) {
             list.add(null);
         }
     }
 
+    /**
+     * Array keys are almost always a few plain digits, "0" or "12", so read those directly, and leave
+     *  signs, overflow and malformed keys to Integer.parseInt, so that they fail the way they always have.
+     */
+    private static int toIndex(String key) {
+        int length = key.length();
+        if (length == 0 || length > 9) {
+            return Integer.parseInt(key);
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = key.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(key);
+            }
+            index = index * 10 + digit;
+        }
+        return index;
+    }
+
     public Class getStepType() {
         return List.class;
     }
@@ -48,7 +68,7 @@ public class ArrayTraversalStep<DataType> extends BaseTraversalStep<List<Object>
     @Override
     public Optional<DataType> get(List<Object> list, String key) {
 
-        int arrayIndex = Integer.parseInt(key);
+        int arrayIndex = toIndex(key);
         if (arrayIndex < list.size()) {
             return Optional.of((DataType) list.get(arrayIndex));
         }
@@ -59,7 +79,7 @@ public class ArrayTraversalStep<DataType> extends BaseTraversalStep<List<Object>
     @Override
     public Optional<DataType> remove(List<Object> list, String key) {
 
-        int arrayIndex = Integer.parseInt(key);
+        int arrayIndex = toIndex(key);
         if (arrayIndex < list.size()) {
             return Optional.of((DataType) list.remove(arrayIndex));
         }
@@ -70,7 +90,7 @@ public class ArrayTraversalStep<DataType> extends BaseTraversalStep<List<Object>
     @Override
     public Optional<DataType> overwriteSet(List<Object> list, String key, DataType data) {
 
-        int arrayIndex = Integer.parseInt(key);
+        int arrayIndex = toIndex(key);
         ensureArraySize(list, arrayIndex);            // make sure it is big enough
         list.set(arrayIndex, data);
         return Optional.of(data);
@@ -259,6 +259,36 @@ public class JoltUtils {
         return false;
     }
 
+    /**
+     * Counts the nodes of a json document, without recursion
+     * <p>
+     * i.e. { "a": [ 1, 2 ], "b": {} } ==> 5, one for each Map, List and value
+     *
+     * @param json source
+     * @return the number of Maps, Lists and values in the document, 1 for a scalar or null
+     */
+    public static long countNodes(Object json) {
+        if (!(json instanceof Map) && !(json instanceof List)) {
+            return 1;
+        }
+        long count = 0;
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(json);
+        while (!pending.isEmpty()) {
+            Object node = pending.pop();
+            count++;
+            Collection<?> children = node instanceof Map<?, ?> map ? map.values() : (List<?>) node;
+            for (Object child : children) {
+                if (child instanceof Map || child instanceof List) {
+                    pending.push(child);
+                } else {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * Given a json document checks if its jst blank doc, i.e. [] or {}
      *
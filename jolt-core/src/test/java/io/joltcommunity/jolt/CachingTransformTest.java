@@ -0,0 +1,150 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CachingTransformTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeMethod
+    public void resetCalls() {
+        calls.set(0);
+    }
+
+    // a Defaultr, so the delegate modifies its input in place
+    private Transform countingDefaultr() {
+        Defaultr defaultr = new Defaultr(JsonUtils.javason("{ 'tuna' : 'marlin' }"));
+        return input -> {
+            calls.incrementAndGet();
+            return defaultr.transform(input);
+        };
+    }
+
+    @Test
+    public void hitsOnStructurallyEqualInputs() {
+        CachingTransform unit = new CachingTransform(countingDefaultr(), 10, Duration.ofMinutes(1));
+
+        Object first = unit.transform(JsonUtils.javason("{ 'a' : [ 1, { 'b' : null } ] }"));
+        Object second = unit.transform(JsonUtils.javason("{ 'a' : [ 1, { 'b' : null } ] }"));
+
+        Assert.assertEquals(calls.get(), 1);
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(second, JsonUtils.javason("{ 'a' : [ 1, { 'b' : null } ], 'tuna' : 'marlin' }"));
+        Assert.assertEquals(unit.getMissCount(), 1);
+        Assert.assertEquals(unit.getHitCount(), 1);
+
+        // different context, key order or values are all different entries
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("locale", "en");
+        unit.transform(JsonUtils.javason("{ 'a' : [ 1, { 'b' : null } ] }"), context);
+        unit.transform(JsonUtils.javason("{ 'a' : [ 1, { 'b' : 2 } ] }"));
+        unit.transform(JsonUtils.javason("{ 'x' : 1, 'y' : 2 }"));
+        unit.transform(JsonUtils.javason("{ 'y' : 2, 'x' : 1 }"));
+
+        Assert.assertEquals(calls.get(), 5);
+        Assert.assertEquals(unit.size(), 5);
+    }
+
+    @Test
+    public void callersCanNotCorruptTheCache() {
+        CachingTransform unit = new CachingTransform(countingDefaultr(), 10, Duration.ofMinutes(1));
+
+        Map<String, Object> input = JsonUtils.javason("{ 'list' : [ 1 ] }");
+        Map<String, Object> firstOutput = (Map<String, Object>) unit.transform(input);
+        ((List<Object>) firstOutput.get("list")).add(2);
+
+        Map<String, Object> secondOutput = (Map<String, Object>) unit.transform(JsonUtils.javason("{ 'list' : [ 1 ] }"));
+        ((List<Object>) secondOutput.get("list")).add(3);
+
+        Map<String, Object> thirdOutput = (Map<String, Object>) unit.transform(JsonUtils.javason("{ 'list' : [ 1 ] }"));
+
+        Assert.assertEquals(calls.get(), 1);
+        Assert.assertEquals(thirdOutput, JsonUtils.javason("{ 'list' : [ 1 ], 'tuna' : 'marlin' }"));
+        Assert.assertNotSame(thirdOutput, secondOutput);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        CachingTransform unit = new CachingTransform(countingDefaultr(), 2, Duration.ofMinutes(1));
+
+        unit.transform(JsonUtils.javason("{ 'a' : 1 }"));
+        unit.transform(JsonUtils.javason("{ 'b' : 1 }"));
+        unit.transform(JsonUtils.javason("{ 'a' : 1 }"));  // a is now the most recently used
+        unit.transform(JsonUtils.javason("{ 'c' : 1 }"));  // evicts b
+
+        Assert.assertEquals(unit.getEvictionCount(), 1);
+        Assert.assertEquals(unit.size(), 2);
+
+        unit.transform(JsonUtils.javason("{ 'a' : 1 }"));
+        Assert.assertEquals(calls.get(), 3);
+        unit.transform(JsonUtils.javason("{ 'b' : 1 }"));
+        Assert.assertEquals(calls.get(), 4);
+    }
+
+    @Test
+    public void expiresAfterTimeToLive() {
+        AtomicLong now = new AtomicLong();
+        CachingTransform unit = new CachingTransform(countingDefaultr(), 10, Duration.ofSeconds(5), now::get);
+
+        unit.transform(JsonUtils.javason("{ 'a' : 1 }"));
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        unit.transform(JsonUtils.javason("{ 'a' : 1 }"));
+        Assert.assertEquals(calls.get(), 1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        unit.transform(JsonUtils.javason("{ 'a' : 1 }"));
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(unit.getEvictionCount(), 1);
+        Assert.assertEquals(unit.getHitCount(), 1);
+        Assert.assertEquals(unit.getMissCount(), 2);
+    }
+
+    @Test
+    public void handlesDeeplyNestedInputs() {
+        List<Object> root = new ArrayList<>();
+        List<Object> current = root;
+        for (int i = 0; i < 10_000; i++) {
+            List<Object> next = new ArrayList<>();
+            current.add(next);
+            current = next;
+        }
+
+        CachingTransform unit = new CachingTransform((Transform) input -> "done", 10, Duration.ofMinutes(1));
+        unit.transform(root);
+        unit.transform(root);
+
+        Assert.assertEquals(unit.getHitCount(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void rejectsNonTransforms() {
+        new CachingTransform(new JoltTransform() {
+        }, 10, Duration.ofMinutes(1));
+    }
+}
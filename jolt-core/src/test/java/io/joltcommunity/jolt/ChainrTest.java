@@ -16,6 +16,8 @@
  */
 package io.joltcommunity.jolt;
 
+import io.joltcommunity.jolt.chainr.TransformResult;
+import io.joltcommunity.jolt.chainr.instantiator.CompilingChainrInstantiator;
 import io.joltcommunity.jolt.chainr.spec.ChainrEntry;
 import io.joltcommunity.jolt.chainr.transforms.ExplodingTestTransform;
 import io.joltcommunity.jolt.chainr.transforms.GoodTestTransform;
@@ -29,9 +31,14 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 public class ChainrTest {
 
@@ -241,6 +248,131 @@ public class ChainrTest {
         }
     }
 
+    @Test(dataProvider = "getTestCaseNames")
+    public void runTestCasesCompiled(String testCaseName, boolean sorted) throws IOException {
+        String testPath = "/json/chainr/integration/" + testCaseName;
+        Map<String, Object> testUnit = JsonUtils.classpathToMap(testPath + ".json");
+
+        Object input = testUnit.get("input");
+        Object spec = testUnit.get("spec");
+        Object expected = testUnit.get("expected");
+
+        Chainr unit = Chainr.fromSpec(spec, new CompilingChainrInstantiator());
+        Object actual = unit.transform(input, null);
+
+        JoltTestUtil.runDiffy("failed compiled case " + testPath, expected, actual);
+    }
+
+    @Test
+    public void process_itCompilesLiteralShiftr() throws IOException {
+        Map<String, Object> testUnit = JsonUtils.classpathToMap("/json/shiftr/queryMappingXform.json");
+
+        Chainr unit = Chainr.fromSpec(this.newShiftrChainrSpec(testUnit.get("spec")), new CompilingChainrInstantiator());
+        Object actual = unit.transform(testUnit.get("input"), null);
+
+        JoltTestUtil.runDiffy("failed compiled Shiftr call.", testUnit.get("expected"), actual);
+    }
+
+
+    @Test(dataProvider = "getTestCaseNames")
+    public void runTestCasesInParallel(String testCaseName, boolean sorted) throws IOException {
+        String testPath = "/json/chainr/integration/" + testCaseName;
+        Map<String, Object> testUnit = JsonUtils.classpathToMap(testPath + ".json");
+
+        Object expected = testUnit.get("expected");
+        Chainr unit = Chainr.fromSpec(testUnit.get("spec"));
+
+        // each record needs to be its own object, as some of the transforms edit their input in place
+        List<Object> inputs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            inputs.add(JsonUtils.cloneJson(testUnit.get("input")));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<TransformResult> results = unit.transformAll(inputs, executor);
+
+            Assert.assertEquals(results.size(), inputs.size());
+            for (TransformResult result : results) {
+                Assert.assertTrue(result.isSuccess(), "failed parallel case " + testPath);
+                JoltTestUtil.runDiffy("failed parallel case " + testPath, expected, result.getOutput());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void transformAll_reportsFailuresInPlace() {
+        Chainr unit = Chainr.fromSpec(this.newShiftrDefaultrSpec(JsonUtils.javason("{ 'tuna' : 'marlin' }")));
+
+        // Defaultr blows up on a top level list when the spec has no array root
+        List<Object> inputs = new ArrayList<>();
+        inputs.add(new HashMap<>());
+        inputs.add(new ArrayList<>());
+        inputs.add(JsonUtils.javason("{ 'tuna' : 'snapper' }"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<TransformResult> results = unit.transformAll(inputs, executor);
+
+            Assert.assertEquals(results.size(), 3);
+            Assert.assertTrue(results.get(0).isSuccess());
+            Assert.assertEquals(results.get(0).getOutput(), JsonUtils.javason("{ 'tuna' : 'marlin' }"));
+            Assert.assertFalse(results.get(1).isSuccess());
+            Assert.assertNull(results.get(1).getOutput());
+            Assert.assertTrue(results.get(1).getFailure() instanceof TransformException);
+            Assert.assertTrue(results.get(2).isSuccess());
+            Assert.assertEquals(results.get(2).getOutput(), JsonUtils.javason("{ 'tuna' : 'snapper' }"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void transformAll_reportsErrorsInPlace() {
+        Transform throwing = input -> {
+            if ("overflow".equals(input)) {
+                throw new StackOverflowError();
+            }
+            if ("assert".equals(input)) {
+                throw new AssertionError("bad record");
+            }
+            return input;
+        };
+        Chainr unit = new Chainr(Collections.singletonList(throwing));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<TransformResult> results = unit.transformAll(Arrays.asList("overflow", "ok", "assert"), executor);
+
+            Assert.assertEquals(results.size(), 3);
+            Assert.assertTrue(results.get(0).getFailure() instanceof TransformException);
+            Assert.assertTrue(results.get(0).getFailure().getCause() instanceof StackOverflowError);
+            Assert.assertEquals(results.get(1).getOutput(), "ok");
+            Assert.assertTrue(results.get(2).getFailure().getCause() instanceof AssertionError);
+        } finally {
+            executor.shutdown();
+        }
+
+        List<TransformResult> streamed = unit.transformAll(Stream.of("ok", "overflow"));
+        Assert.assertTrue(streamed.get(0).isSuccess());
+        Assert.assertFalse(streamed.get(1).isSuccess());
+    }
+
+    @Test
+    public void transformAll_streamPreservesOrder() {
+        Chainr unit = Chainr.fromSpec(this.newShiftrChainrSpec(JsonUtils.javason("{ 'id' : 'record.id' }")));
+
+        List<TransformResult> results = unit.transformAll(
+                Stream.iterate(0, i -> i + 1).limit(1000).map(i -> (Object) JsonUtils.javason("{ 'id' : " + i + " }")));
+
+        Assert.assertEquals(results.size(), 1000);
+        for (int i = 0; i < results.size(); i++) {
+            Assert.assertEquals(results.get(i).getOutput(), JsonUtils.javason("{ 'record' : { 'id' : " + i + " } }"));
+        }
+    }
+
 
     @Test
     public void testReuseChainr() {
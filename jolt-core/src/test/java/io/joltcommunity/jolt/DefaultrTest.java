@@ -16,11 +16,16 @@
  */
 package io.joltcommunity.jolt;
 
+import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.defaultr.DefaultTemplate;
+import io.joltcommunity.jolt.defaultr.Key;
 import io.joltcommunity.jolt.exception.SpecException;
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -35,6 +40,7 @@ public class DefaultrTest {
                 {"expansionOnly"},
                 {"firstSample"},
                 {"identity"},
+                {"literalTemplate"},
                 {"nestedArrays1"},
                 {"nestedArrays2"},
                 {"orOrdering"},
@@ -60,6 +66,41 @@ public class DefaultrTest {
         JoltTestUtil.runDiffy("failed case " + testPath, expected, actual);
     }
 
+    @Test(dataProvider = "getDiffyTestCases")
+    public void templateMatchesKeyWalk(String testCaseName) throws IOException {
+
+        Map<String, Object> testUnit = JsonUtils.classpathToMap("/json/defaultr/" + testCaseName + ".json");
+        Object spec = testUnit.get("spec");
+        Object input = testUnit.get("input");
+
+        Map<String, Object> rootSpec = new LinkedHashMap<>();
+        rootSpec.put(input instanceof List ? "root[]" : "root", spec);
+        Key root = Key.parseSpec(rootSpec).iterator().next();
+
+        Optional<DefaultTemplate> template = DefaultTemplate.compile(root);
+        if (!template.isPresent()) {
+            return; // "*" or "|" keys, only the Key walk can handle those
+        }
+
+        Object viaKeys = JsonUtils.cloneJson(input);
+        root.applyChildren(viaKeys);
+        Object viaTemplate = JsonUtils.cloneJson(input);
+        template.get().apply(viaTemplate);
+
+        JoltTestUtil.runDiffy("failed case " + testCaseName, viaKeys, viaTemplate);
+    }
+
+    @Test
+    public void onlyLiteralSpecsCompile() throws IOException {
+        Key literal = Key.parseSpec(JsonUtils.jsonToMap("{ \"root\" : { \"a\" : { \"b[]\" : { \"1\" : \"c\" } } } }")).iterator().next();
+        Key star = Key.parseSpec(JsonUtils.jsonToMap("{ \"root\" : { \"a\" : { \"*\" : { \"c\" : 1 } } } }")).iterator().next();
+        Key or = Key.parseSpec(JsonUtils.jsonToMap("{ \"root\" : { \"a|b\" : { \"c\" : 1 } } }")).iterator().next();
+
+        Assert.assertTrue(DefaultTemplate.compile(literal).isPresent());
+        Assert.assertFalse(DefaultTemplate.compile(star).isPresent());
+        Assert.assertFalse(DefaultTemplate.compile(or).isPresent());
+    }
+
     @Test
     public void deepCopyTest() throws IOException {
         Map<String, Object> testUnit = JsonUtils.classpathToMap("/json/defaultr/__deepCopyTest.json");
@@ -20,6 +20,7 @@ import io.joltcommunity.jolt.common.Optional;
 import io.joltcommunity.jolt.common.SpecStringParser;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.modifier.function.Function;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 import com.google.common.collect.Lists;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
@@ -28,8 +29,11 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("deprecated")
@@ -248,6 +252,113 @@ public class ModifierTest {
                 "Generated value should match UUID format: " + generatedUuid);
     }
 
+    @Test(expectedExceptions = SpecException.class)
+    public void unknownFunctionFailsAtBuild() {
+        new Modifier.Overwritr(JsonUtils.jsonToMap("{ \"a\": \"=toUppr(@(1,b))\" }"));
+    }
+
+    @Test(expectedExceptions = SpecException.class)
+    public void wrongArgCountFailsAtBuildWithAStrictRegistry() {
+        FunctionRegistry functions = FunctionRegistry.builder()
+                .register("first", FunctionRegistry.Definition.of(args -> Optional.of(args[0])).arity(1, 1))
+                .strict(true)
+                .build();
+        new Modifier.Overwritr(JsonUtils.jsonToMap("{ \"a\": \"=first(@(1,b), 2)\" }"), functions);
+    }
+
+    @DataProvider
+    public Object[][] getWrongArgCountStockCalls() {
+        return new Object[][]{
+                {"=divide(1)"},
+                {"=divide(1,2,3)"},
+                {"=intSubtract(1)"},
+                {"=doubleSubtract(1,2,3)"},
+                {"=divideAndRound(@(1,nr),@(1,dr))"},
+                {"=substring('abc', 0)"},
+                {"=replace(@(1,string), 'fox')"},
+                {"=toUpper('a', 'b')"}
+        };
+    }
+
+    @Test(expectedExceptions = SpecException.class, dataProvider = "getWrongArgCountStockCalls")
+    public void wrongArgCountToStockFunctionFailsAtBuildWithAStrictRegistry(String call) {
+        FunctionRegistry strict = FunctionRegistry.stock().toBuilder().strict(true).build();
+        new Modifier.Overwritr(JsonUtils.jsonToMap("{ \"a\": \"" + call + "\" }"), strict);
+    }
+
+    @Test
+    public void singleReferenceArgsAreSpreadWithAStrictRegistry() {
+        FunctionRegistry strict = FunctionRegistry.stock().toBuilder().strict(true).build();
+        Modifier modifier = new Modifier.Overwritr(JsonUtils.jsonToMap(
+                "{ \"div\": \"=divide(@(1,value))\", \"sub\": \"=intSubtract(@(1,value))\", \"at\": \"=elementAt(@(1,list))\" }"), strict);
+
+        Map<?, ?> actual = (Map<?, ?>) modifier.transform(JsonUtils.jsonToMap("{ \"value\": [5, 2], \"list\": [0, \"b\", \"c\"] }"), null);
+
+        assertEquals(actual.get("div"), 2.5);
+        assertEquals(actual.get("sub"), 3);
+        assertEquals(actual.get("at"), "b");
+    }
+
+    @Test
+    public void registeredFunctionsAreCallable() {
+        FunctionRegistry functions = FunctionRegistry.stock().toBuilder()
+                .register("minLabel", new MinLabelComputation())
+                .build();
+        Modifier modifier = new Modifier.Overwritr(JsonUtils.jsonToMap("{ \"min\": \"=minLabel(@(1,labels))\", \"name\": \"=toUpper\" }"), functions);
+
+        Object actual = modifier.transform(JsonUtils.jsonToMap("{ \"name\": \"abc\", \"labels\": { \"1\": \"low\", \"5\": \"high\" } }"), null);
+
+        assertEquals(((Map<?, ?>) actual).get("min"), "low");
+        assertEquals(((Map<?, ?>) actual).get("name"), "ABC");
+    }
+
+    @Test
+    public void pureCallsWithLiteralArgsAreMadeAtBuild() {
+        AtomicInteger calls = new AtomicInteger();
+        Function counting = args -> {
+            calls.incrementAndGet();
+            return Optional.of(args[0]);
+        };
+        FunctionRegistry functions = FunctionRegistry.stock().toBuilder()
+                .register("pureEcho", FunctionRegistry.Definition.pure(counting))
+                .register("impureEcho", counting)
+                .build();
+        Modifier modifier = new Modifier.Overwritr(JsonUtils.jsonToMap(
+                "{ \"a\": \"=pureEcho(1)\", \"b\": \"=impureEcho(2)\", \"c\": \"=pureEcho(@(1,x))\", \"list\": \"=toList(1,2)\" }"), functions);
+        assertEquals(calls.get(), 1);
+
+        Map<?, ?> first = (Map<?, ?>) modifier.transform(JsonUtils.jsonToMap("{ \"x\": 3 }"), null);
+        Map<?, ?> second = (Map<?, ?>) modifier.transform(JsonUtils.jsonToMap("{ \"x\": 4 }"), null);
+
+        // two impureEcho and two pureEcho(@(1,x)) calls
+        assertEquals(calls.get(), 5);
+        assertEquals(first.get("a"), 1);
+        assertEquals(second.get("a"), 1);
+        assertEquals(second.get("b"), 2);
+        assertEquals(second.get("c"), 4);
+        assertEquals(first.get("list"), Arrays.asList(1, 2));
+        assertNotSame(first.get("list"), second.get("list"));
+    }
+
+    @Test
+    public void pureCallArrayResultsAreCopiedForEveryWrite() {
+        Modifier modifier = new Modifier.Overwritr(JsonUtils.jsonToMap("{ \"sorted\": \"=sort(3,1,2)\" }"));
+
+        Map<?, ?> first = (Map<?, ?>) modifier.transform(new HashMap<>(), null);
+        Map<?, ?> second = (Map<?, ?>) modifier.transform(new HashMap<>(), null);
+
+        assertEquals((Object[]) first.get("sorted"), new Object[]{1, 2, 3});
+        assertNotSame(first.get("sorted"), second.get("sorted"));
+    }
+
+    @Test(expectedExceptions = SpecException.class)
+    public void pureCallResultMustMatchDeclaredType() {
+        FunctionRegistry functions = FunctionRegistry.builder()
+                .register("echo", FunctionRegistry.Definition.pure(args -> Optional.of(args[0])).returns(String.class))
+                .build();
+        new Modifier.Overwritr(JsonUtils.jsonToMap("{ \"a\": \"=echo(1)\" }"), functions);
+    }
+
     enum ModifierTestCase {
         OVERWRITR {
             @Override
@@ -20,6 +20,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
 public class ShiftrTest {
@@ -111,4 +112,16 @@ public class ShiftrTest {
 
         JoltTestUtil.runDiffy("failed case " + testPath, expected, actual);
     }
+
+    @Test
+    public void inputMapWithANullKeyIsShifted() throws IOException {
+        Shiftr shiftr = new Shiftr(JsonUtils.jsonToMap("{ \"a\": \"x\", \"b\": \"y\", \"c\": \"z\" }"));
+        Map<String, Object> input = new HashMap<>();
+        input.put(null, 1);
+        input.put("a", 2);
+
+        Object actual = shiftr.transform(input);
+
+        JoltTestUtil.runDiffy("null input key", JsonUtils.jsonToMap("{ \"x\": 2 }"), actual);
+    }
 }
@@ -19,6 +19,8 @@ package io.joltcommunity.jolt.chainr;
 import io.joltcommunity.jolt.chainr.transforms.TransformTestResult;
 import io.joltcommunity.jolt.exception.SpecException;
 import io.joltcommunity.jolt.exception.TransformException;
+import io.joltcommunity.jolt.common.Optional;
+import io.joltcommunity.jolt.modifier.function.FunctionRegistry;
 import com.beust.jcommander.internal.Lists;
 import io.joltcommunity.jolt.*;
 import org.testng.Assert;
@@ -68,6 +70,32 @@ public class ChainrInitializationTest {
         new ChainrBuilder(validSpec).loader(null);
     }
 
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void chainrBuilderFailsOnNullFunctions() {
+
+        Object validSpec = JsonUtils.classpathToObject("/json/chainr/transforms/loadsGoodTransform.json");
+        new ChainrBuilder(validSpec).functions(null);
+    }
+
+    @Test
+    public void chainrBuilderHandsFunctionsToModifiers() {
+        FunctionRegistry functions = FunctionRegistry.stock().toBuilder()
+                .register("shout", FunctionRegistry.Definition.pure(args -> Optional.of(args[0] + "!")).arity(1, 1))
+                .build();
+        Object spec = JsonUtils.jsonToObject("[ { \"operation\": \"modify-overwrite-beta\", \"spec\": { \"a\": \"=shout(@(1,a))\" } } ]");
+
+        Chainr unit = new ChainrBuilder(spec).functions(functions).build();
+        Map<?, ?> actual = (Map<?, ?>) unit.transform(JsonUtils.jsonToMap("{ \"a\": \"hi\" }"));
+
+        Assert.assertEquals(actual.get("a"), "hi!");
+    }
+
+    @Test(expectedExceptions = SpecException.class)
+    public void chainrFailsOnUnregisteredFunction() {
+        Object spec = JsonUtils.jsonToObject("[ { \"operation\": \"modify-overwrite-beta\", \"spec\": { \"a\": \"=shout(@(1,a))\" } } ]");
+        Chainr.fromSpec(spec);
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void failsOnNullListOfJoltTransforms() {
         new Chainr(null);
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.chainr;
+
+import io.joltcommunity.jolt.Chainr;
+import io.joltcommunity.jolt.JsonUtils;
+import io.joltcommunity.jolt.chainr.transforms.ExplodingTestTransform;
+import io.joltcommunity.jolt.exception.TransformException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class ChainrListenerTest {
+
+    private static class RecordingListener implements ChainrListener {
+
+        private final boolean measure;
+        private final List<ChainrStepMetrics> completed = new ArrayList<>();
+        private final List<ChainrStepMetrics> failed = new ArrayList<>();
+
+        RecordingListener(boolean measure) {
+            this.measure = measure;
+        }
+
+        @Override
+        public boolean countNodes() {
+            return measure;
+        }
+
+        @Override
+        public boolean measureAllocatedBytes() {
+            return measure;
+        }
+
+        @Override
+        public void stepCompleted(ChainrStepMetrics metrics) {
+            completed.add(metrics);
+        }
+
+        @Override
+        public void stepFailed(ChainrStepMetrics metrics, RuntimeException failure) {
+            failed.add(metrics);
+        }
+    }
+
+    private static final Object SPEC = JsonUtils.jsonToList("""
+            [
+              { "operation" : "default", "spec" : { "list" : [ 1, 2, 3 ] } },
+              { "operation" : "shift", "spec" : { "list" : "moved" } },
+              { "operation" : "sort" }
+            ]""");
+
+    @Test
+    public void reportsEveryStep() {
+        RecordingListener listener = new RecordingListener(true);
+        Chainr chainr = new ChainrBuilder(SPEC).listener(listener).build();
+
+        chainr.transform(new HashMap<>());
+
+        Assert.assertEquals(listener.completed.size(), 3);
+        Assert.assertEquals(listener.failed.size(), 0);
+
+        ChainrStepMetrics defaultStep = listener.completed.get(0);
+        Assert.assertEquals(defaultStep.stepIndex(), 0);
+        Assert.assertEquals(defaultStep.operationName(), "default");
+        Assert.assertEquals(defaultStep.inputNodeCount(), 1);   // {}
+        Assert.assertEquals(defaultStep.outputNodeCount(), 5);  // { "list" : [ 1, 2, 3 ] }
+        Assert.assertTrue(defaultStep.elapsedNanos() >= 0);
+
+        ChainrStepMetrics shiftStep = listener.completed.get(1);
+        Assert.assertEquals(shiftStep.stepIndex(), 1);
+        Assert.assertEquals(shiftStep.operationName(), "shift");
+        Assert.assertEquals(shiftStep.inputNodeCount(), 5);
+
+        Assert.assertEquals(listener.completed.get(2).operationName(), "sort");
+        for (ChainrStepMetrics metrics : listener.completed) {
+            Assert.assertTrue(metrics.allocatedBytes() == -1 || metrics.allocatedBytes() >= 0);
+        }
+    }
+
+    @Test
+    public void reportsStepIndicesOfPartialRuns() {
+        RecordingListener listener = new RecordingListener(false);
+        Chainr chainr = new ChainrBuilder(SPEC).listener(listener).build();
+
+        chainr.transform(1, 3, JsonUtils.javason("{ 'list' : [ 1 ] }"));
+
+        Assert.assertEquals(listener.completed.size(), 2);
+        Assert.assertEquals(listener.completed.get(0).stepIndex(), 1);
+        Assert.assertEquals(listener.completed.get(1).stepIndex(), 2);
+        Assert.assertEquals(listener.completed.get(0).inputNodeCount(), -1);
+        Assert.assertEquals(listener.completed.get(0).outputNodeCount(), -1);
+        Assert.assertEquals(listener.completed.get(0).allocatedBytes(), -1);
+    }
+
+    @Test
+    public void reportsFailedSteps() {
+        RecordingListener listener = new RecordingListener(true);
+        Object spec = JsonUtils.jsonToList("""
+                [
+                  { "operation" : "sort" },
+                  { "operation" : "io.joltcommunity.jolt.chainr.transforms.ExplodingTestTransform" }
+                ]""");
+        Chainr chainr = new ChainrBuilder(spec).listener(listener).build();
+
+        Assert.assertThrows(TransformException.class, () -> chainr.transform(new HashMap<>()));
+
+        Assert.assertEquals(listener.completed.size(), 1);
+        Assert.assertEquals(listener.failed.size(), 1);
+        Assert.assertEquals(listener.failed.get(0).stepIndex(), 1);
+        Assert.assertEquals(listener.failed.get(0).operationName(), ExplodingTestTransform.class.getName());
+        Assert.assertEquals(listener.failed.get(0).outputNodeCount(), -1);
+    }
+}
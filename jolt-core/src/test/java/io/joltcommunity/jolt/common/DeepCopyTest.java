@@ -18,10 +18,16 @@ package io.joltcommunity.jolt.common;
 
 import io.joltcommunity.jolt.JoltTestUtil;
 import io.joltcommunity.jolt.JsonUtils;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 public class DeepCopyTest {
 
@@ -52,6 +58,60 @@ public class DeepCopyTest {
         JoltTestUtil.runDiffy("Verify fiddled post deepcopy object looks correct / was modifed.", expectedModified, fiddle);
     }
 
+    @Test
+    public void deepCopyPreservesOrderAndMapTypes() {
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        for (int i = 100; i > 0; i--) {
+            ordered.put("key" + i, i);
+        }
+        Map<String, Object> sorted = new TreeMap<>(Comparator.reverseOrder());
+        sorted.put("a", 1);
+        sorted.put("b", 2);
+        ordered.put("sorted", sorted);
+
+        Map<String, Object> copy = (Map<String, Object>) DeepCopy.simpleDeepCopy(ordered);
+
+        Assert.assertTrue(copy instanceof LinkedHashMap);
+        Assert.assertEquals(new ArrayList<>(copy.keySet()), new ArrayList<>(ordered.keySet()));
+        Assert.assertTrue(copy.get("sorted") instanceof TreeMap);
+        Assert.assertEquals(new ArrayList<>(((Map<String, Object>) copy.get("sorted")).keySet()), List.of("b", "a"));
+        Assert.assertNotSame(copy.get("sorted"), sorted);
+    }
+
+    @Test
+    public void deepCopyHandlesDeepNesting() {
+        int depth = 10_000;
+        Map<String, Object> root = new LinkedHashMap<>();
+        Map<String, Object> current = root;
+        for (int i = 0; i < depth; i++) {
+            List<Object> list = new ArrayList<>();
+            Map<String, Object> next = new LinkedHashMap<>();
+            list.add(i);
+            list.add(next);
+            current.put("child", list);
+            current = next;
+        }
+
+        Object copy = DeepCopy.simpleDeepCopy(root);
+
+        for (int i = 0; i < depth; i++) {
+            Assert.assertTrue(copy instanceof Map);
+            List<Object> list = (List<Object>) ((Map<String, Object>) copy).get("child");
+            Assert.assertEquals(list.get(0), i);
+            copy = list.get(1);
+        }
+        Assert.assertEquals(copy, Map.of());
+    }
+
+    @Test
+    public void deepCopyCopiesSerializableLeaves() {
+        Date date = new Date(0);
+        List<Object> copy = (List<Object>) DeepCopy.simpleDeepCopy(new ArrayList<>(List.of("a", date)));
+
+        Assert.assertEquals(copy, List.of("a", date));
+        Assert.assertNotSame(copy.get(1), date);
+    }
+
     @Test(expectedExceptions = RuntimeException.class)
     public void testSimpleDeepCopy_NonSerializable() {
         Object nonSerializable = new Object(); // Not Serializable
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.common;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IndexKeysTest {
+
+    @Test
+    public void indexKeysAreSharedWithinTheCache() {
+        for (int index : new int[]{0, 1, 9, 10, 1023, 1024, 100_000, 131_071}) {
+            String key = IndexKeys.toKey(index);
+            Assert.assertEquals(key, Integer.toString(index));
+            Assert.assertSame(IndexKeys.toKey(index), key);
+        }
+    }
+
+    @Test
+    public void indexKeysOutsideTheCacheAreStillCorrect() {
+        Assert.assertEquals(IndexKeys.toKey(131_072), "131072");
+        Assert.assertEquals(IndexKeys.toKey(Integer.MAX_VALUE), Integer.toString(Integer.MAX_VALUE));
+        Assert.assertEquals(IndexKeys.toKey(-1), "-1");
+    }
+}
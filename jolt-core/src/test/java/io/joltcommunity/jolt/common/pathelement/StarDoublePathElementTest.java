@@ -130,6 +130,22 @@ public class StarDoublePathElementTest {
 
     }
 
+    @Test
+    public void testMidMustLeaveRoomForTheSecondStar() {
+
+        StarPathElement star = new StarDoublePathElement("x*-*y");
+
+        Assert.assertFalse(star.stringMatch("xa-y"));
+        Assert.assertFalse(star.stringMatch("x-by"));
+        Assert.assertNull(star.match("xa-y", null));
+
+        MatchedElement lpe = star.match("xa--y", null);
+        Assert.assertEquals(lpe.getSubKeyRef(1), "a");
+        Assert.assertEquals(lpe.getSubKeyRef(2), "-");
+        // captures are cut out of the key once, on first read
+        Assert.assertSame(lpe.getSubKeyRef(1), lpe.getSubKeyRef(1));
+    }
+
     @Test(expectedExceptions = SpecException.class,
             expectedExceptionsMessageRegExp = "StarDoublePathElement should have two '\\*' in its key\\. Was: abc")
     public void testNoStarThrowsException() {
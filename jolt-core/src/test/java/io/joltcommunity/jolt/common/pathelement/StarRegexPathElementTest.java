@@ -21,6 +21,10 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 public class StarRegexPathElementTest {
 
     @DataProvider
@@ -61,4 +65,61 @@ public class StarRegexPathElementTest {
         Assert.assertNull(multiMetacharStarpathelement.match("rating-$capGrp1-capGrp2", null));
         Assert.assertNotNull(multiMetacharStarpathelement.match("rating-$-capGrp1-capGrp2", null));
     }
+
+    @Test
+    public void manyStarsTest() {
+
+        StarPathElement star = new StarRegexPathElement("*-*-*_*");
+
+        MatchedElement matched = star.match("a-b-c-d_e_f", null);
+        Assert.assertEquals(matched.getSubKeyCount(), 5);
+        Assert.assertEquals(matched.getSubKeyRef(1), "a");
+        Assert.assertEquals(matched.getSubKeyRef(2), "b");
+        Assert.assertEquals(matched.getSubKeyRef(3), "c-d");
+        Assert.assertEquals(matched.getSubKeyRef(4), "e_f");
+
+        Assert.assertNull(star.match("a-b-c_", null));
+        Assert.assertNull(star.match("a-b_c", null));
+        Assert.assertFalse(star.stringMatch("-b-c_d"));
+        Assert.assertTrue(star.stringMatch("--b-c_d"));
+    }
+
+    /**
+     * The segment matcher has to find the same captures that the "(.+?)" regex it replaced did.
+     */
+    @Test
+    public void matchesLikeTheReluctantRegex() {
+
+        String[] specs = {"*-*-*", "a*-*b", "**-*", "*.*.*.*", "-*--*-", "*a*a*", "x*_*-*y"};
+        char[] alphabet = {'a', 'b', '-', '_', '.', 'x', 'y'};
+        Random random = new Random(42);
+
+        for (String spec : specs) {
+            Pattern pattern = Pattern.compile("^" + Pattern.quote(spec).replace("*", "\\E(.+?)\\Q") + "$");
+            StarPathElement star = new StarRegexPathElement(spec);
+
+            for (int i = 0; i < 2000; i++) {
+                char[] chars = new char[random.nextInt(12)];
+                for (int c = 0; c < chars.length; c++) {
+                    chars[c] = alphabet[random.nextInt(alphabet.length)];
+                }
+                String key = new String(chars);
+
+                Matcher matcher = pattern.matcher(key);
+                boolean found = matcher.find();
+                Assert.assertEquals(star.stringMatch(key), found, spec + " against " + key);
+
+                MatchedElement matched = star.match(key, null);
+                Assert.assertEquals(matched != null, found, spec + " against " + key);
+                if (!found) {
+                    continue;
+                }
+
+                Assert.assertEquals(matched.getSubKeyCount(), matcher.groupCount() + 1);
+                for (int group = 1; group <= matcher.groupCount(); group++) {
+                    Assert.assertEquals(matched.getSubKeyRef(group), matcher.group(group), spec + " against " + key);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.common.spec;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LiteralTableTest {
+
+    @Test
+    public void keepsSpecOrderAndFindsEveryKey() {
+        Map<String, Integer> literals = new LinkedHashMap<>();
+        for (int i = 0; i < 500; i++) {
+            literals.put("key-" + (499 - i), i);
+        }
+
+        LiteralTable<Integer> table = new LiteralTable<>(literals);
+
+        Assert.assertEquals(table.size(), 500);
+        for (int i = 0; i < 500; i++) {
+            Assert.assertEquals(table.getKey(i), "key-" + (499 - i));
+            Assert.assertEquals(table.getValue(i), Integer.valueOf(i));
+            Assert.assertEquals(table.indexOf("key-" + (499 - i)), i);
+        }
+        Assert.assertEquals(table.indexOf("key-500"), -1);
+        Assert.assertEquals(table.indexOf(""), -1);
+        Assert.assertNull(table.get("tuna"));
+    }
+
+    @Test
+    public void handlesKeysWithEqualHashCodes() {
+        // "Aa" and "BB" have the same hashCode, so no table size can separate them
+        Map<String, String> literals = new LinkedHashMap<>();
+        literals.put("Aa", "first");
+        literals.put("BB", "second");
+        literals.put("AaAa", "third");
+        literals.put("BBBB", "fourth");
+
+        LiteralTable<String> table = new LiteralTable<>(literals);
+
+        Assert.assertEquals(table.get("Aa"), "first");
+        Assert.assertEquals(table.get("BB"), "second");
+        Assert.assertEquals(table.get("AaAa"), "third");
+        Assert.assertEquals(table.get("BBBB"), "fourth");
+        Assert.assertEquals(table.indexOf("AaBB"), -1);
+    }
+
+    @Test
+    public void parsesListIndicesOnce() {
+        Map<String, String> literals = new LinkedHashMap<>();
+        literals.put("0", "zero");
+        literals.put("12", "twelve");
+        literals.put("-1", "negative");
+        literals.put("tuna", "word");
+        literals.put("99999999999", "overflow");
+
+        LiteralTable<String> table = new LiteralTable<>(literals);
+
+        Assert.assertEquals(table.getListIndex(0), 0);
+        Assert.assertEquals(table.getListIndex(1), 12);
+        Assert.assertEquals(table.getListIndex(2), -1);
+        Assert.assertEquals(table.getListIndex(3), -1);
+        Assert.assertEquals(table.getListIndex(4), -1);
+    }
+
+    @Test
+    public void emptyTableFindsNothing() {
+        LiteralTable<String> table = new LiteralTable<>(Map.of());
+
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertEquals(table.indexOf("tuna"), -1);
+    }
+
+    @Test
+    public void nullKeyFindsNothing() {
+        Map<String, String> children = new LinkedHashMap<>();
+        children.put("tuna", "a");
+
+        LiteralTable<String> table = new LiteralTable<>(children);
+
+        Assert.assertEquals(table.indexOf(null), -1);
+        Assert.assertNull(table.get(null));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.common.tree;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class WalkedPathTest {
+
+    @Test
+    public void walkedPathIsAListOfItsLevels() {
+        MatchedElement a = new MatchedElement("a");
+        MatchedElement b = new MatchedElement("b");
+        WalkedPath walkedPath = new WalkedPath("root", a);
+        walkedPath.add("child", b);
+
+        List<PathStep> levels = walkedPath;
+        Assert.assertEquals(levels.size(), 2);
+        List<MatchedElement> matched = new ArrayList<>();
+        for (PathStep pathStep : levels) {
+            matched.add(pathStep.getMatchedElement());
+        }
+        Assert.assertEquals(matched, Arrays.asList(a, b));
+        Assert.assertSame(levels.get(1).getTreeRef(), "child");
+    }
+
+    @Test
+    public void removedLevelsAreCopiedAndTheirFramesCleared() {
+        MatchedElement a = new MatchedElement("a");
+        MatchedElement b = new MatchedElement("b");
+        WalkedPath walkedPath = new WalkedPath("root", a);
+        walkedPath.add("child", b);
+        PathStep frame = walkedPath.lastElement();
+
+        PathStep removed = walkedPath.removeLastElement();
+
+        Assert.assertEquals(walkedPath.size(), 1);
+        Assert.assertSame(removed.getTreeRef(), "child");
+        Assert.assertSame(removed.getMatchedElement(), b);
+        Assert.assertNull(frame.getTreeRef());
+        Assert.assertNull(frame.getMatchedElement());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void onlyTheLastLevelCanBeRemoved() {
+        WalkedPath walkedPath = new WalkedPath("root", new MatchedElement("a"));
+        walkedPath.add("child", new MatchedElement("b"));
+        walkedPath.remove(0);
+    }
+}
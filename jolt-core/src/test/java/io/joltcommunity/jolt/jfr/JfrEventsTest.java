@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.jfr;
+
+import io.joltcommunity.jolt.Chainr;
+import io.joltcommunity.jolt.JsonUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class JfrEventsTest {
+
+    @Test
+    public void emitsBuildCompileAndStepEvents() throws IOException {
+        Object spec = JsonUtils.jsonToList("""
+                [
+                  { "operation" : "default", "spec" : { "list" : [ 1, 2, 3 ] } },
+                  { "operation" : "shift", "spec" : { "list" : "moved" } }
+                ]""");
+
+        List<RecordedEvent> events;
+        Path dump = Files.createTempFile("jolt", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ChainrBuildEvent.class);
+            recording.enable(SpecCompileEvent.class);
+            recording.enable(ChainrStepEvent.class);
+            recording.start();
+
+            Chainr chainr = Chainr.fromSpec(spec);
+            chainr.transform(new HashMap<>());
+
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        List<RecordedEvent> builds = ofType(events, "io.joltcommunity.jolt.ChainrBuild");
+        Assert.assertEquals(builds.size(), 1);
+        Assert.assertEquals(builds.get(0).getInt("stepCount"), 2);
+
+        List<RecordedEvent> compiles = ofType(events, "io.joltcommunity.jolt.SpecCompile");
+        Assert.assertEquals(compiles.size(), 2);
+        Assert.assertEquals(compiles.get(0).getString("transformClass"), "io.joltcommunity.jolt.Defaultr");
+        Assert.assertEquals(compiles.get(0).getLong("specSize"), 5);
+        Assert.assertEquals(compiles.get(1).getString("transformClass"), "io.joltcommunity.jolt.Shiftr");
+
+        List<RecordedEvent> steps = ofType(events, "io.joltcommunity.jolt.ChainrStep");
+        Assert.assertEquals(steps.size(), 2);
+        Assert.assertEquals(steps.get(0).getString("operation"), "default");
+        Assert.assertEquals(steps.get(0).getInt("stepIndex"), 0);
+        Assert.assertEquals(steps.get(0).getLong("documentSize"), 5);
+        Assert.assertEquals(steps.get(1).getString("operation"), "shift");
+        Assert.assertEquals(steps.get(1).getInt("stepIndex"), 1);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = new ArrayList<>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name)) {
+                matching.add(event);
+            }
+        }
+        matching.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+        return matching;
+    }
+}
@@ -42,6 +42,29 @@ public abstract class AbstractTester {
         } else {
             actual = function.apply(args);
         }
+        assertResult(name, actual, expected);
+    }
+
+    /**
+     * Modifier calls Functions with one or two args through applySingleArg and applyTwoArgs, which have to
+     * agree with apply.
+     */
+    @Test(dataProvider = "getTestCases")
+    public void testArityFastPaths(String name, Function function, Object args, Optional<Object> expected) {
+        Optional<Object> actual;
+        if (!(args instanceof Object[] array)) {
+            actual = function.applySingleArg(args);
+        } else if (array.length == 1) {
+            actual = function.applySingleArg(array[0]);
+        } else if (array.length == 2) {
+            actual = function.applyTwoArgs(array[0], array[1]);
+        } else {
+            return;
+        }
+        assertResult(name, actual, expected);
+    }
+
+    private static void assertResult(String name, Optional<Object> actual, Optional<Object> expected) {
         assertEquals(actual.isPresent(), expected.isPresent(), "actual and expected should both be present or not");
         if (actual.isPresent()) {
             assertEquals(actual.get(), expected.get(), name + " failed");
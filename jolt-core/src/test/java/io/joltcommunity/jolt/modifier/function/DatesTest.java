@@ -20,6 +20,8 @@ import io.joltcommunity.jolt.common.Optional;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -107,6 +109,20 @@ public class DatesTest extends AbstractTester {
         testCases.add(new Object[]{"dateAdd-duration-numeric", DATE_SUBSTRACT, new Object[]{"2000-01-01", "yyyy-MM-dd", 1, "UTC"}, Optional.empty()});
         testCases.add(new Object[]{"dateSubstract-null-args", DATE_SUBSTRACT, null, Optional.empty()});
 
+        // the same cases again, with all but the first arg bound up front, as spec literals are
+        for (Object[] testCase : new ArrayList<>(testCases)) {
+            if (testCase[2] instanceof Object[] args && args.length > 1) {
+                Object[] literalArgs = args.clone();
+                literalArgs[0] = null;
+                boolean[] literal = new boolean[args.length];
+                Arrays.fill(literal, 1, args.length, true);
+                testCases.add(new Object[]{"bound-" + testCase[0], ((Function) testCase[1]).bind(literalArgs, literal), args, testCase[3]});
+            }
+        }
+        Function FROM_EPOCH_YEAR = FROM_EPOCH.bind(new Object[]{null, "yyyy", "UTC"}, new boolean[]{false, true, true});
+        testCases.add(new Object[]{"bound-fromEpoch-other-pattern", FROM_EPOCH_YEAR, new Object[]{1L, "yyyy-MM", "UTC"}, Optional.of("1970-01")});
+        testCases.add(new Object[]{"bound-fromEpoch-other-zone", FROM_EPOCH_YEAR, new Object[]{1771176362001L, "yyyy-MM-dd'T'HH:mm:ssX", "Europe/Paris"}, Optional.of("2026-02-15T18:26:02+01")});
+
         return testCases.iterator();
     }
 
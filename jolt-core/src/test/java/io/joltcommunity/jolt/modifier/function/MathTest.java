@@ -45,6 +45,7 @@ public class MathTest extends AbstractTester {
         Function INT_SUM_OF = new Math.intSum();
         Function DOUBLE_SUM_OF = new Math.doubleSum();
         Function LONG_SUM_OF = new Math.longSum();
+        Function AVG_OF = new Math.avg();
 
         Function INT_SUBTRACT_OF = new Math.intSubtract();
         Function DOUBLE_SUBTRACT_OF = new Math.doubleSubtract();
@@ -247,6 +248,29 @@ public class MathTest extends AbstractTester {
         testCases.add(new Object[]{"longsum-single-value", LONG_SUM_OF, 2, Optional.empty()});
         testCases.add(new Object[]{"longsum-combo-intstring-array", LONG_SUM_OF, Arrays.asList(1L, 2, "-3.0", 0), Optional.of(0L)});
 
+        // lists of one boxed type, as parsed JSON arrays are, and lists that are not RandomAccess
+        List<Object> ints = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ints.add(i);
+        }
+        testCases.add(new Object[]{"intsum-int-arraylist", INT_SUM_OF, ints, Optional.of(499500)});
+        testCases.add(new Object[]{"longsum-int-arraylist", LONG_SUM_OF, ints, Optional.of(499500L)});
+        testCases.add(new Object[]{"doublesum-int-arraylist", DOUBLE_SUM_OF, ints, Optional.of(499500.0)});
+        testCases.add(new Object[]{"avg-int-arraylist", AVG_OF, ints, Optional.of(499.5)});
+        testCases.add(new Object[]{"max-int-arraylist", MAX_OF, ints, Optional.of(999)});
+        testCases.add(new Object[]{"min-int-arraylist", MIN_OF, ints, Optional.of(0)});
+
+        testCases.add(new Object[]{"intsum-linked-list", INT_SUM_OF, new LinkedList<>(Arrays.asList(1, 2L, "3")), Optional.of(6)});
+        testCases.add(new Object[]{"max-linked-list", MAX_OF, new LinkedList<>(Arrays.asList(1, "7", 3L)), Optional.of(7)});
+        testCases.add(new Object[]{"min-linked-list", MIN_OF, new LinkedList<>(Arrays.asList("10000000000", 5, 2.0)), Optional.of(2.0)});
+
+        testCases.add(new Object[]{"intsum-overflow-wraps", INT_SUM_OF, Arrays.asList(Integer.MAX_VALUE, 1), Optional.of(Integer.MIN_VALUE)});
+        testCases.add(new Object[]{"longsum-int-overflow-widens", LONG_SUM_OF, Arrays.asList(Integer.MAX_VALUE, 1), Optional.of(2147483648L)});
+        testCases.add(new Object[]{"doublesum-combo-array", DOUBLE_SUM_OF, Arrays.asList(0.5, 1, 2L, "0.25"), Optional.of(3.75)});
+
+        testCases.add(new Object[]{"avg-combo-array", AVG_OF, Arrays.asList(1, 2.0, "3", "abc", null), Optional.of(2.0)});
+        testCases.add(new Object[]{"avg-no-numbers", AVG_OF, Arrays.asList("abc", null), Optional.empty()});
+
         testCases.add(new Object[]{"intsubtract-happy-path", INT_SUBTRACT_OF, Arrays.asList(4, 1), Optional.of(3)});
         testCases.add(new Object[]{"intsubtract-single-value", INT_SUBTRACT_OF, 2, Optional.empty()});
         testCases.add(new Object[]{"intsubtract-wrong-type", INT_SUBTRACT_OF, Arrays.asList(4L, 1), Optional.empty()});
@@ -18,7 +18,9 @@
 package io.joltcommunity.jolt.modifier.function;
 
 import io.joltcommunity.jolt.common.Optional;
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -51,6 +53,33 @@ public class StringsTest extends AbstractTester {
         testCases.add(new Object[]{"split-regex-token-string", SPLIT, new Object[]{"[eE]", "test,TEST"}, Optional.of(Arrays.asList("t", "st,T", "ST"))});
         testCases.add(new Object[]{"split-regex2-token-string", SPLIT, new Object[]{"\\s+", "test TEST  Test    TeSt"}, Optional.of(Arrays.asList("test", "TEST", "Test", "TeSt"))});
 
+        // a literal separator compiled when the spec is built
+        Function SPLIT_E = SPLIT.bind(new Object[]{"[eE]", null}, new boolean[]{true, false});
+        testCases.add(new Object[]{"split-bound-regex-token-string", SPLIT_E, new Object[]{"[eE]", "test,TEST"}, Optional.of(Arrays.asList("t", "st,T", "ST"))});
+        testCases.add(new Object[]{"split-bound-regex-list", SPLIT_E, new Object[]{"[eE]", Arrays.asList("te", "Es")}, Optional.of(Arrays.asList(Arrays.asList("t"), Arrays.asList("", "s")))});
+        testCases.add(new Object[]{"split-bound-regex-other-separator", SPLIT_E, new Object[]{",", "test,TEST"}, Optional.of(Arrays.asList("test", "TEST"))});
+
+        Function REPLACE_ALL = new Strings.replaceAll();
+        Function REPLACE_DIGITS = REPLACE_ALL.bind(new Object[]{null, "[0-9]+", "#"}, new boolean[]{false, true, true});
+
+        testCases.add(new Object[]{"replaceAll-regex", REPLACE_ALL, new Object[]{"a1b22c333", "[0-9]+", "#"}, Optional.of("a#b#c#")});
+        testCases.add(new Object[]{"replaceAll-group", REPLACE_ALL, new Object[]{"tuna-marlin", "(\\w+)-(\\w+)", "$2-$1"}, Optional.of("marlin-tuna")});
+        testCases.add(new Object[]{"replaceAll-invalid-regex", REPLACE_ALL, new Object[]{"a1b22c333", "[0-9", "#"}, Optional.empty()});
+        testCases.add(new Object[]{"replaceAll-not-a-string", REPLACE_ALL, new Object[]{5, "[0-9]+", "#"}, Optional.empty()});
+        testCases.add(new Object[]{"replaceAll-bound-regex", REPLACE_DIGITS, new Object[]{"a1b22c333", "[0-9]+", "#"}, Optional.of("a#b#c#")});
+        testCases.add(new Object[]{"replaceAll-bound-regex-other-regex", REPLACE_DIGITS, new Object[]{"a1b22c333", "[a-z]", "#"}, Optional.of("#1#22#333")});
+        testCases.add(new Object[]{"replaceAll-invalid-bound-regex", REPLACE_ALL.bind(new Object[]{null, "[0-9", "#"}, new boolean[]{false, true, true}),
+                new Object[]{"a1b22c333", "[0-9", "#"}, Optional.empty()});
+
         return testCases.iterator();
     }
+
+    @Test
+    public void patternCacheIsBounded() {
+        Function replaceAll = new Strings.replaceAll();
+        for (int i = 0; i < PatternCache.MAX_SIZE * 2; i++) {
+            Assert.assertEquals(replaceAll.apply("x" + i, "x" + i, "y").get(), "y");
+            Assert.assertTrue(PatternCache.size() <= PatternCache.MAX_SIZE);
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2013-2023 Bazaarvoice, Inc.
+ * Copyright 2025 Jolt Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.joltcommunity.jolt.shiftr;
+
+import io.joltcommunity.jolt.JoltTestUtil;
+import io.joltcommunity.jolt.JsonUtils;
+import io.joltcommunity.jolt.Shiftr;
+import io.joltcommunity.jolt.ShiftrTest;
+import io.joltcommunity.jolt.common.Optional;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+public class DirectShiftrTest {
+
+    @DataProvider
+    public Object[][] getTestCaseUnits() {
+        return new ShiftrTest().getTestCaseUnits();
+    }
+
+    /**
+     * Every Shiftr fixture that compiles, has to produce the same output as Shiftr.
+     */
+    @Test(dataProvider = "getTestCaseUnits")
+    public void runTestUnits(String testCaseName) throws IOException {
+
+        String testPath = "/json/shiftr/" + testCaseName;
+        Map<String, Object> testUnit = JsonUtils.classpathToMap(testPath + ".json");
+
+        Object spec = testUnit.get("spec");
+        Optional<DirectShiftr> compiled = DirectShiftr.compile(spec);
+        if (!compiled.isPresent()) {
+            return;
+        }
+
+        Object expected = new Shiftr(spec).transform(JsonUtils.cloneJson(testUnit.get("input")));
+        Object actual = compiled.get().transform(testUnit.get("input"));
+
+        JoltTestUtil.runDiffy("failed case " + testPath, expected, actual);
+        JoltTestUtil.runDiffy("failed case " + testPath, testUnit.get("expected"), actual);
+    }
+
+    @DataProvider
+    public Object[][] compilableSpecs() throws IOException {
+        return new Object[][]{
+                {
+                        "Literals, OR keys and references",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "rating" : {
+                                    "primary|main" : { "value" : "Rating.&1", "max" : "Range.&(1,0).&" },
+                                    "quality" : { "value" : [ "Quality", "All" ] }
+                                  },
+                                  "ignored" : null
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "rating" : {
+                                    "primary" : { "value" : 4, "max" : 5 },
+                                    "main" : { "value" : 3, "max" : 6 },
+                                    "quality" : { "value" : 2, "max" : 7 }
+                                  },
+                                  "ignored" : "nope"
+                                }""")
+                },
+                {
+                        "Special keys",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "@" : "copy",
+                                  "photos" : {
+                                    "$" : "keys",
+                                    "#constant" : "constants",
+                                    "@" : "photos",
+                                    "0" : { "url" : "first" }
+                                  }
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "photos" : [ { "url" : "a" }, { "url" : "b" } ]
+                                }""")
+                },
+                {
+                        "Scalars, nulls and collisions",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "tuna" : { "marlin" : "fish", "trout" : "fish" },
+                                  "nothing" : "fish",
+                                  "blocked" : { "x" : "tuna.inside" }
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "tuna" : "marlin",
+                                  "nothing" : null,
+                                  "blocked" : { "x" : 1 }
+                                }""")
+                },
+                {
+                        "Identity",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "@" : ""
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "a" : [ 1, 2 ]
+                                }""")
+                }
+        };
+    }
+
+    @Test(dataProvider = "compilableSpecs")
+    public void compiledMatchesShiftr(String testName, Map<String, Object> spec, Map<String, Object> input) throws IOException {
+
+        Optional<DirectShiftr> compiled = DirectShiftr.compile(spec);
+        Assert.assertTrue(compiled.isPresent(), testName);
+
+        Object expected = new Shiftr(spec).transform(JsonUtils.cloneJson(input));
+        Object actual = compiled.get().transform(input);
+
+        JoltTestUtil.runDiffy(testName, expected, actual);
+    }
+
+    @DataProvider
+    public Object[][] notCompilableSpecs() throws IOException {
+        return new Object[][]{
+                {"star", JsonUtils.jsonToMap("{ \"*\" : \"a\" }")},
+                {"lhs reference", JsonUtils.jsonToMap("{ \"a\" : { \"&\" : { \"b\" : \"c\" } } }")},
+                {"transpose", JsonUtils.jsonToMap("{ \"a\" : { \"@(1,b)\" : \"c\" } }")},
+                {"array output", JsonUtils.jsonToMap("{ \"a\" : \"b[]\" }")},
+                {"hash output", JsonUtils.jsonToMap("{ \"a\" : { \"b\" : \"c[#2]\" } }")},
+                {"sub key reference", JsonUtils.jsonToMap("{ \"a\" : \"&(0,1)\" }")}
+        };
+    }
+
+    @Test(dataProvider = "notCompilableSpecs")
+    public void notCompilable(String testName, Map<String, Object> spec) {
+        Assert.assertFalse(DirectShiftr.compile(spec).isPresent(), testName);
+    }
+}
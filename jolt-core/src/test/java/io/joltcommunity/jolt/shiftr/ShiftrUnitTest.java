@@ -148,6 +148,100 @@ public class ShiftrUnitTest {
                                     { "marlin" : [ null, null, null, { "BBB" : "bar" } ] }
                                   ]
                                 }""")
+                },
+                {
+                        "Literal keys that are not list indices are ignored for list input",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "list" : {
+                                    "-1" : "negative",
+                                    "first" : "word",
+                                    "1" : "second"
+                                  }
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "list" : [ "a", "b" ]
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "second" : "b"
+                                }""")
+                },
+                {
+                        "Literal index wins over a conflicting star for list and scalar input",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "list" : {
+                                    "0" : "first",
+                                    "*" : "rest[]"
+                                  },
+                                  "scalar" : {
+                                    "tuna" : { "$" : "fish" },
+                                    "*" : { "$" : "other" }
+                                  }
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "list" : [ "a", "b", "c" ],
+                                  "scalar" : "tuna"
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "first" : "a",
+                                  "rest" : [ "b", "c" ],
+                                  "fish" : "tuna"
+                                }""")
+                },
+                {
+                        "Captures read from further down the spec, and stars nothing reads the captures of",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "tuna-*" : {
+                                    "marlin-*" : {
+                                      "value" : "&(2,1).&(1,1)",
+                                      "other-*" : "&1.&"
+                                    }
+                                  },
+                                  "*_*" : "unread.&"
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "tuna-A" : {
+                                    "marlin-B" : {
+                                      "value" : 1,
+                                      "other-C" : 2
+                                    }
+                                  },
+                                  "mahi_mahi" : 3
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "A" : { "B" : 1 },
+                                  "marlin-B" : { "other-C" : 2 },
+                                  "unread" : { "mahi_mahi" : 3 }
+                                }""")
+                },
+                {
+                        "Sparse input against a wide spec is still shifted in spec order",
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "a" : "out[]",
+                                  "b" : "out[]",
+                                  "c" : "out[]",
+                                  "d" : "out[]",
+                                  "e" : "out[]"
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "d" : 4,
+                                  "x" : 0,
+                                  "b" : 2
+                                }"""),
+                        JsonUtils.jsonToMap("""
+                                {
+                                  "out" : [ 2, 4 ]
+                                }""")
                 }
         };
     }
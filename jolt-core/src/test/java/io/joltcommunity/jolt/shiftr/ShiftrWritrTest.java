@@ -24,7 +24,10 @@ import io.joltcommunity.jolt.common.tree.WalkedPath;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 // Todo Now that the PathElement classes have been split out (no longer inner classes)
 //  each class should get a test
@@ -173,4 +176,27 @@ public class ShiftrWritrTest {
         Assert.assertEquals(stringPath.get(3), "3");
         Assert.assertEquals(stringPath.get(4), "BBB");
     }
+
+    @Test
+    public void writeConstantAndMixedPaths() {
+
+        MatchablePathElement pe1 = (MatchablePathElement) PathElementBuilder.parseSingleKeyLHS("tuna-*-marlin-*");
+        MatchablePathElement pe2 = (MatchablePathElement) PathElementBuilder.parseSingleKeyLHS("rating-*");
+
+        WalkedPath twoSteps = new WalkedPath(null, pe1.match("tuna-2-marlin-3", new WalkedPath()));
+        twoSteps.add(null, pe2.match("rating-BBB", twoSteps));
+
+        Map<String, Object> output = new LinkedHashMap<>();
+
+        // both writers share the key buffer of the WalkedPath, one after the other
+        new ShiftrWriter("constant.path[1]").write("first", output, twoSteps);
+        new ShiftrWriter("tuna[&(1,1)].&(0,1)").write("second", output, twoSteps);
+        new ShiftrWriter("tuna[&(1,2)].&(0,1)").write("third", output, twoSteps);
+        // a transpose that finds nothing writes nothing
+        new ShiftrWriter("missing.@(0,nothing)").write("fourth", output, twoSteps);
+
+        Assert.assertEquals(output.get("constant"), Map.of("path", Arrays.asList(null, "first")));
+        Assert.assertEquals(output.get("tuna"), Arrays.asList(null, null, Map.of("BBB", "second"), Map.of("BBB", "third")));
+        Assert.assertFalse(output.containsKey("missing"));
+    }
 }
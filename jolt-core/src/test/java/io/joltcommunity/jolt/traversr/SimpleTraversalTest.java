@@ -168,6 +168,38 @@ public class SimpleTraversalTest {
         JoltTestUtil.runDiffy(testDescription, expectedLeft, start);
     }
 
+    @Test
+    public void arrayKeysMatchListKeys() throws IOException {
+        SimpleTraversr<Object> traversr = new SimpleTraversr<>("a.[12].b.[]");
+        String[] keys = {"a", "12", "b", "[]"};
+
+        Map<String, Object> viaList = new HashMap<>();
+        Map<String, Object> viaArray = new HashMap<>();
+        Assert.assertEquals(traversr.set(viaList, Arrays.asList(keys), "tuna").get(), "tuna");
+        Assert.assertEquals(traversr.set(viaArray, keys, "tuna").get(), "tuna");
+        JoltTestUtil.runDiffy(viaList, viaArray);
+
+        SimpleTraversr<Object> reader = new SimpleTraversr<>("a.[12].b");
+        String[] readKeys = {"a", "12", "b"};
+        Assert.assertEquals(reader.get(viaArray, readKeys).get(), Arrays.asList("tuna"));
+        Assert.assertFalse(reader.get(viaArray, new String[]{"a", "3", "b"}).isPresent());
+        Assert.assertFalse(reader.get(viaArray, new String[]{"x", "12", "b"}).isPresent());
+        Assert.assertFalse(reader.get(null, readKeys).isPresent());
+
+        Assert.assertEquals(reader.remove(viaArray, readKeys).get(), Arrays.asList("tuna"));
+        Assert.assertFalse(reader.get(viaArray, readKeys).isPresent());
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class)
+    public void arrayKeysMustBeIndices() {
+        new SimpleTraversr<>("a.[0]").get(JsonUtils.javason("{ 'a' : [ 'b' ] }"), new String[]{"a", "-x"});
+    }
+
+    @Test(expectedExceptions = TraversrException.class)
+    public void arrayKeysMustMatchThePath() {
+        new SimpleTraversr<>("a.b").get(new HashMap<>(), new String[]{"a"});
+    }
+
     @Test(expectedExceptions = ClassCastException.class)
     public void exceptionTestListIsMap() throws Exception {
         Object tree = JsonUtils.javason("{ 'Id' : '1234', '__queryContext' : { 'catalogLin' : [ 'a', 'b' ] } }");
@@ -21,11 +21,16 @@ import io.joltcommunity.jolt.exception.JsonUnmarshalException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.*;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -292,9 +297,91 @@ public class JsonUtilImpl implements JsonUtil {
         }
     }
 
+    /**
+     * Copies the tree directly, producing the same objects that writing it out as JSON and reading it
+     * back in would : LinkedHashMaps, ArrayLists, and Integer / Long / BigInteger / Double numbers.
+     * <p>
+     * Values that do not have a plain JSON form (POJOs, Maps with non String keys, ...) are run through
+     * the ObjectMapper via a TokenBuffer, which skips the text but not the ObjectMapper's configuration.
+     * The same goes for the whole tree if the ObjectMapper is configured to read numbers as some other type.
+     */
     @Override
     public Object cloneJson(Object obj) {
-        String string = this.toJsonString(obj);
-        return this.jsonToObject(string);
+        DeserializationConfig config = objectMapper.getDeserializationConfig();
+        if (config.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                || config.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS)
+                || config.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS)) {
+            return cloneViaTokenBuffer(obj);
+        }
+        return cloneValue(obj, true);
+    }
+
+    private Object cloneValue(Object obj, boolean tokenBufferAllowed) {
+        if (obj == null || obj instanceof String || obj instanceof Boolean) {
+            return obj;
+        }
+        if (obj instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>((int) (map.size() / 0.75f) + 1);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String key)) {
+                    return cloneOther(obj, tokenBufferAllowed);
+                }
+                copy.put(key, cloneValue(entry.getValue(), tokenBufferAllowed));
+            }
+            return copy;
+        }
+        if (obj instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(cloneValue(item, tokenBufferAllowed));
+            }
+            return copy;
+        }
+
+        // Jackson reads integral numbers back as the smallest of Integer / Long / BigInteger that fits, and decimals as Doubles
+        if (obj instanceof Integer) {
+            return obj;
+        }
+        if (obj instanceof Long || obj instanceof Short || obj instanceof Byte) {
+            long value = ((Number) obj).longValue();
+            return value == (int) value ? Integer.valueOf((int) value) : obj instanceof Long ? obj : Long.valueOf(value);
+        }
+        if (obj instanceof BigInteger value) {
+            int bits = value.bitLength();
+            return bits < Integer.SIZE ? Integer.valueOf(value.intValue()) : bits < Long.SIZE ? Long.valueOf(value.longValue()) : value;
+        }
+        if (obj instanceof Double value && Double.isFinite(value)) {
+            return obj;
+        }
+        if (obj instanceof Float value && Float.isFinite(value)) {
+            // a float is written out with its own shortest representation, e.g. 0.1f as 0.1
+            return Double.valueOf(value.toString());
+        }
+        return cloneOther(obj, tokenBufferAllowed);
+    }
+
+    private Object cloneOther(Object obj, boolean tokenBufferAllowed) {
+        if (tokenBufferAllowed) {
+            // The TokenBuffer hands back the Java values that were written to it, rather than what would have
+            // been parsed from their text, so its output gets the same treatment as the input.
+            return cloneValue(cloneViaTokenBuffer(obj), false);
+        }
+        // What is left is rare enough to not be worth more than going through its text,
+        // e.g. BigDecimals and NaN, whose Java values do not survive the trip.
+        return jsonToObject(toJsonString(obj));
+    }
+
+    private Object cloneViaTokenBuffer(Object obj) {
+        TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+        try {
+            objectMapper.writeValue(buffer, obj);
+        } catch (IOException e) {
+            throw new JsonMarshalException("Unable to serialize object : " + obj, e);
+        }
+        try (JsonParser parser = buffer.asParser()) {
+            return objectMapper.readValue(parser, Object.class);
+        } catch (IOException e) {
+            throw new JsonUnmarshalException("Unable to unmarshal JSON to an Object.", e);
+        }
     }
 }
@@ -28,6 +28,8 @@ import org.testng.annotations.Test;
 import org.testng.collections.Lists;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 
 public class JsonUtilsTest {
@@ -353,4 +355,48 @@ public class JsonUtilsTest {
         JsonUtilImpl util = new JsonUtilImpl();
         util.fileToType("non_existent_class.json", Map.class);
     }
+
+    @DataProvider
+    public Object[][] cloneJsonCases() {
+        Map<Object, Object> nonStringKeys = new LinkedHashMap<>();
+        nonStringKeys.put(1, "one");
+        nonStringKeys.put(true, List.of(2L));
+
+        return new Object[][]{
+                {JsonUtils.jsonToObject("{ \"a\" : [ 1, 2.5, null, true, \"s\", { \"b\" : {} } ], \"c\" : 12345678901 }")},
+                {new ArrayList<>(Arrays.asList(5L, 12345678901L, (short) 3, (byte) 4, 0.1f, 2.5d, null))},
+                {new ArrayList<>(Arrays.asList(new BigInteger("123456789012345678901234567890"), new BigDecimal("1.50"), Double.NaN))},
+                {new ArrayList<>(Arrays.asList(nonStringKeys, new Date(0)))}
+        };
+    }
+
+    @Test(dataProvider = "cloneJsonCases")
+    public void testCloneJsonMatchesStringRoundTrip(Object json) {
+        JsonUtilImpl util = new JsonUtilImpl();
+        Object expected = util.jsonToObject(util.toJsonString(json));
+
+        Object actual = util.cloneJson(json);
+
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(String.valueOf(actual), String.valueOf(expected), "numeric types should match too");
+        Assert.assertEquals(typesOf(actual), typesOf(expected));
+        if (json instanceof Collection) {
+            Assert.assertNotSame(actual, json);
+        }
+    }
+
+    private static List<Class<?>> typesOf(Object json) {
+        List<Class<?>> types = new ArrayList<>();
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(json == null ? "null" : json);
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            types.add(next.getClass());
+            Collection<?> children = next instanceof Map<?, ?> map ? map.values() : next instanceof List<?> list ? list : List.of();
+            for (Object child : children) {
+                pending.push(child == null ? "null" : child);
+            }
+        }
+        return types;
+    }
 }